@@ -1,5 +1,7 @@
 package com.alibou.booknetwork;
 
+import com.alibou.booknetwork.book.BookSearchIndexer;
+import com.alibou.booknetwork.history.ActiveLoanRepository;
 import com.alibou.booknetwork.role.Role;
 import com.alibou.booknetwork.role.RoleRepository;
 import org.springframework.boot.CommandLineRunner;
@@ -9,10 +11,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing(auditorAwareRef = "auditorAware") // we need to tell spring what auditing entity listener to use (the bean named auditorAware that we created) (this is for created_by and updated_by fields)
 @EnableAsync
+@EnableScheduling // BookRatingReconciliationJob 등 주기 작업 실행
 public class BookNetworkApiApplication {
 
 	public static void main(String[] args) {
@@ -21,8 +25,14 @@ public class BookNetworkApiApplication {
 
 	// initialize the database with some data
 	@Bean
-	public CommandLineRunner runner(RoleRepository roleRepository) {
+	public CommandLineRunner runner(RoleRepository roleRepository,
+									ActiveLoanRepository activeLoanRepository,
+									BookSearchIndexer bookSearchIndexer) {
 		return args -> {
+			// active_loan 테이블 도입 전에 생성된 반납 미승인 대여를 옮겨옴 (이미 있으면 건너뜀)
+			activeLoanRepository.backfillFromHistory();
+			// 검색 색인 도입 전에 저장된 도서를 색인 (이미 색인된 도서는 건너뜀)
+			bookSearchIndexer.indexMissingBooks();
 			if (roleRepository.findByName("USER").isEmpty()) {
 				roleRepository.save(Role.builder().name("USER").build());
 			}
@@ -1,7 +1,6 @@
 package com.alibou.booknetwork.auth;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -19,7 +18,7 @@ public class AuthenticationController {
     @ResponseStatus(HttpStatus.ACCEPTED) // what will be the response status by default
     public ResponseEntity<?> register(
             @RequestBody @Valid RegisterationRequest registerationRequest
-    ) throws MessagingException {
+    ) {
         authenticationService.register(registerationRequest);
         return ResponseEntity.accepted().build();
     }
@@ -34,7 +33,7 @@ public class AuthenticationController {
     @GetMapping("/activate-account")
     public void confirm(
             @RequestParam String token
-    ) throws MessagingException {
+    ) {
         authenticationService.activateAccount(token);
     }
 }
@@ -4,11 +4,10 @@ import com.alibou.booknetwork.email.EmailService;
 import com.alibou.booknetwork.email.EmailTemplateName;
 import com.alibou.booknetwork.role.RoleRepository;
 import com.alibou.booknetwork.security.JwtService;
+import com.alibou.booknetwork.user.ActivationTokenStore;
 import com.alibou.booknetwork.user.Token;
-import com.alibou.booknetwork.user.TokenRepository;
 import com.alibou.booknetwork.user.User;
 import com.alibou.booknetwork.user.UserRepository;
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,7 +17,6 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -41,7 +39,7 @@ public class AuthenticationService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
-    private final TokenRepository tokenRepository;
+    private final ActivationTokenStore activationTokenStore;
     private final EmailService emailService;
     // AuthenticationManager는 별도의 빈으로 생성되어야 합니다(BeansConfig에서 정의)
     private final AuthenticationManager authenticationManager;
@@ -56,10 +54,12 @@ public class AuthenticationService {
      * 이 메소드는 사용자 정보를 저장하고, 계정 활성화를 위한 검증 이메일을 발송합니다.
      * 기본적으로 사용자는 'USER' 역할을 부여받으며, 계정은 비활성화 상태로 생성됩니다.
      * 
+     * 사용자, 활성화 토큰, 검증 이메일 대기열 항목은 하나의 트랜잭션으로 저장됩니다.
+     * 
      * @param registerationRequest 사용자 등록 정보
-     * @throws MessagingException 이메일 발송 중 오류 발생 시
      */
-    public void register(RegisterationRequest registerationRequest) throws MessagingException {
+    @Transactional
+    public void register(RegisterationRequest registerationRequest) {
         var userRole = roleRepository.findByName("USER")
                 // TODO: 예외 처리 개선 - 커스텀 예외 클래스 사용
                 .orElseThrow(() -> new IllegalStateException("ROLE USER was not initialized"));
@@ -79,16 +79,16 @@ public class AuthenticationService {
     }
 
     /**
-     * 계정 활성화를 위한 검증 이메일을 발송합니다.
+     * 계정 활성화를 위한 검증 이메일을 발송 대기열에 저장합니다.
      * 
      * @param user 이메일을 발송할 사용자
-     * @throws MessagingException 이메일 발송 중 오류 발생 시
      */
-    private void sendValidationEmail(User user) throws MessagingException {
-        var newToken = generateAndSaveActivationToken(user);
+    private void sendValidationEmail(User user) {
+        // 토큰 원문은 이메일로만 전달되고 저장소에는 해시만 남음
+        var newToken = activationTokenStore.issue(user);
         
-        // 이메일 서비스를 통해 활성화 링크가 포함된 이메일 발송
-        emailService.sendEmail(
+        // 활성화 링크가 포함된 이메일을 발송 대기열에 저장 (EmailOutboxDispatcher가 발송)
+        emailService.queueEmail(
                 user.getEmail(),
                 user.fullName(),
                 EmailTemplateName.ACTIVATE_ACCOUNT,
@@ -98,47 +98,6 @@ public class AuthenticationService {
         );
     }
 
-    /**
-     * 계정 활성화 토큰을 생성하고 저장합니다.
-     * 
-     * @param user 토큰을 생성할 사용자
-     * @return 생성된 활성화 토큰
-     */
-    private String generateAndSaveActivationToken(User user) {
-        // 6자리 활성화 코드 생성
-        String generatedToken = generateActivationCode(6);
-        var token = Token.builder()
-                .token(generatedToken)
-                .createdAt(LocalDateTime.now())
-                .expiresAt(LocalDateTime.now().plusMinutes(15)) // 토큰 유효 시간: 15분
-                .user(user)
-                .build();
-        
-        // 토큰 저장
-        tokenRepository.save(token);
-        return generatedToken;
-    }
-
-    /**
-     * 보안적으로 안전한 활성화 코드를 생성합니다.
-     * 
-     * @param length 코드 길이
-     * @return 생성된 활성화 코드
-     */
-    private String generateActivationCode(int length) {
-        String characters = "0123456789";
-        StringBuilder stringBuilder = new StringBuilder();
-        // SecureRandom 사용 - 보안적으로 더 안전한 난수 생성기
-        SecureRandom secureRandom = new SecureRandom();
-        for (int i = 0; i < length; i++) {
-            // 무작위 인덱스 생성
-            int randomIndex = secureRandom.nextInt(characters.length());
-            // 해당 인덱스의 문자를 추가
-            stringBuilder.append(characters.charAt(randomIndex));
-        }
-        return stringBuilder.toString();
-    }
-
     /**
      * 사용자를 인증하고 JWT 토큰을 발급합니다.
      * 
@@ -156,8 +115,9 @@ public class AuthenticationService {
         // JWT 토큰에 포함할 추가 클레임 설정
         var claims = new HashMap<String, Object>();
         var user = (User) auth.getPrincipal();  // no need to get detais from userrepository because we already have the authentication object. We implemented Principal in User class
-        // 사용자 전체 이름을 클레임에 추가
-        claims.put("fullName", user.fullName());
+        // 사용자 전체 이름과 ID를 클레임에 추가 (ID는 claims-only 인증 모드에서 사용)
+        claims.put(JwtService.FULL_NAME_CLAIM, user.fullName());
+        claims.put(JwtService.USER_ID_CLAIM, user.getId());
         
         // JWT 토큰 생성
         var jwtToken = jwtService.generateToken(claims, user);
@@ -170,16 +130,15 @@ public class AuthenticationService {
      * 토큰이 만료된 경우 새 토큰을 생성하여 이메일로 발송합니다.
      * 
      * @param token 활성화 토큰
-     * @throws MessagingException 이메일 발송 중 오류 발생 시
      */
     // @Transactional 주석 해제 권장 - 토큰 검증과 사용자 활성화를 단일 트랜잭션으로 처리
-    public void activateAccount(String token) throws MessagingException {
-        Token savedToken = tokenRepository.findByToken(token)
+    public void activateAccount(String token) {
+        Token savedToken = activationTokenStore.find(token)
                 .orElseThrow(() -> new RuntimeException("Token not found")); // TODO: 커스텀 예외 정의 필요
 
         // 토큰 만료 확인
         if (LocalDateTime.now().isAfter(savedToken.getExpiresAt())) {
-            // 만료된 경우 새 토큰 발송
+            // 만료된 경우 새 토큰 발송 (사용자별 미검증 토큰 수는 ActivationTokenStore가 제한)
             sendValidationEmail(savedToken.getUser());
             throw new RuntimeException("Activation Token expired. A new token has been sent to the same email address");
         }
@@ -192,9 +151,8 @@ public class AuthenticationService {
         user.setEnabled(true);
         userRepository.save(user);
         
-        // 토큰 검증 시간 기록
-        savedToken.setValidatedAt(LocalDateTime.now());
-        tokenRepository.save(savedToken);
+        // 토큰 검증 시간 기록 (검증된 토큰은 ActivationTokenSweeper가 삭제)
+        activationTokenStore.markValidated(savedToken);
     }
 }
 
@@ -2,19 +2,29 @@ package com.alibou.booknetwork.book;
 
 import com.alibou.booknetwork.common.BaseEntity;
 import com.alibou.booknetwork.feedback.Feedback;
+import com.alibou.booknetwork.file.CoverVariant;
 import com.alibou.booknetwork.history.BookTransactionHistory;
 
 import com.alibou.booknetwork.user.User;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,6 +35,12 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = { // 키셋 페이지네이션의 (createdDate, id) 탐색용
+        @Index(name = "idx_book_created_date_id", columnList = "created_date, id"),
+        @Index(name = "idx_book_owner_created_date_id", columnList = "owner_id, created_date, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book") // 2차 캐시 영역 (CacheConfig)
 public class Book extends BaseEntity {
 
     private String title;
@@ -32,6 +48,8 @@ public class Book extends BaseEntity {
     private String isbn;
     private String synopsis;
     private String bookCover;
+    private boolean listCoverReady; // CoverVariant.LIST 썸네일 생성 완료 여부
+    private boolean detailCoverReady; // CoverVariant.DETAIL 썸네일 생성 완료 여부
     private boolean archived;
     private boolean shareable;
 
@@ -45,18 +63,41 @@ public class Book extends BaseEntity {
     @OneToMany(mappedBy = "book")
     private List<BookTransactionHistory> histories;
 
+    // 평점 집계 값. FeedbackService.save에서 SQL 증가 연산으로 갱신되고 BookRatingReconciliationJob이 주기적으로 재계산
+    // 엔티티 저장이 읽어 둔 이전 값으로 덮어쓰지 않도록 INSERT/UPDATE 대상에서 제외 (신규 도서는 컬럼 기본값 0)
+    // 엔티티 UPDATE 후에는 DB 값을 다시 읽어 2차 캐시에 이전 값이 올라가지 않게 함
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false, nullable = false)
+    @Generated(event = EventType.UPDATE)
+    private double ratingSum;
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false, nullable = false)
+    @Generated(event = EventType.UPDATE)
+    private int ratingCount;
+
     @Transient // this field will not be persisted in the database
     public double getRate() { // this method will be used to calculate the rate of the book
-        if (feedbacks == null || feedbacks.isEmpty()) {
+        // feedbacks 컬렉션을 로딩하지 않고 집계 컬럼만으로 계산
+        return rateOf(ratingSum, ratingCount);
+    }
+
+    /**
+     * 평점 합계와 개수로 소수점 첫째 자리까지 반올림한 평균 평점을 계산합니다.
+     * 엔티티 없이 프로젝션 결과(BookSummary)에서도 같은 규칙을 쓰기 위해 분리했습니다.
+     */
+    public static double rateOf(double ratingSum, int ratingCount) {
+        if (ratingCount == 0) {
             return 0.0;
         }
-        var rate = this.feedbacks.stream()
-                .mapToDouble(Feedback::getNote)
-                .average()
-                .orElse(0.0);
-        double roundedRate = Math.round(rate * 10.0) / 10.0;
-
-        // Return 4.0 if roundedRate is less than 4.5, otherwise return 4.5
-        return roundedRate;
+        var rate = ratingSum / ratingCount;
+        return Math.round(rate * 10.0) / 10.0;
+    }
+
+    /**
+     * 요청한 크기 이상이면서 이미 생성된 가장 작은 표지 크기를 반환합니다.
+     * 썸네일이 아직 준비되지 않았다면 원본으로 대체됩니다.
+     */
+    public CoverVariant smallestReadyCoverVariant(CoverVariant wanted) {
+        return CoverVariant.smallestReady(wanted, listCoverReady, detailCoverReady);
     }
 }
@@ -1,32 +1,109 @@
 package com.alibou.booknetwork.book;
 
+import com.alibou.booknetwork.common.Cursor;
+import com.alibou.booknetwork.common.CursorResponse;
 import com.alibou.booknetwork.common.PageResponse;
+import com.alibou.booknetwork.file.CoverVariant;
+import com.alibou.booknetwork.recommendation.CoBorrowIndex;
+import com.alibou.booknetwork.recommendation.SimilarBookResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
 @RestController
 @RequestMapping("books")
 @RequiredArgsConstructor
 @Tag(name = "Book")
 public class BookController {
     private final BookService service;
+    private final BookImportService importService;
+    private final LoanHistoryExportService exportService;
+    private final CoBorrowIndex coBorrowIndex;
+    private final ObjectMapper objectMapper;
+
+    @Value("${application.file.cover-max-age}")
+    private long coverMaxAge;
 
     @PostMapping
     public ResponseEntity<Integer> saveBook(@Valid @RequestBody BookRequest request, Authentication connectedUser) {
         return ResponseEntity.ok(service.save(request, connectedUser));
     }
 
+    /**
+     * CSV(text/csv) 또는 NDJSON(application/x-ndjson) 요청 본문을 스트리밍으로 읽어 도서를 일괄 등록합니다.
+     * 응답은 NDJSON으로, 실패한 행(error)과 묶음별 진행 현황(progress)을 처리되는 대로 보내고 마지막에 요약(summary)을 보냅니다.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"}, produces = "application/x-ndjson")
+    public void importBooks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body,
+            Authentication connectedUser,
+            HttpServletResponse response
+    ) throws IOException {
+        Charset charset = Optional.ofNullable(contentType.getCharset()).orElse(StandardCharsets.UTF_8);
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        Writer out = response.getWriter();
+        Consumer<BookImportEvent> writeEvent = event -> {
+            try {
+                out.write(objectMapper.writeValueAsString(event));
+                out.write('\n');
+                if (!"error".equals(event.type())) {
+                    out.flush(); // 진행 현황은 바로 클라이언트로 전송
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        Reader input = new BufferedReader(new InputStreamReader(body, charset));
+        writeEvent.accept(importService.importBooks(input, BookImportFormat.of(contentType), connectedUser, writeEvent));
+    }
+
     @GetMapping("/{book-id}")
     public ResponseEntity<BookResponse> findBookById(
-            @PathVariable("book-id") Integer bookId
+            @PathVariable("book-id") Integer bookId,
+            @RequestParam(name = "inline-cover", defaultValue = "false", required = false) boolean inlineCover
+    ) {
+        return ResponseEntity.ok(service.findById(bookId, inlineCover));
+    }
+
+    /**
+     * 이 도서를 빌린 사용자들이 함께 빌린 도서를 함께 대여한 사용자 수 순으로 반환합니다.
+     * CoBorrowIndexJob이 미리 계산한 메모리 인덱스에서 조회하므로 데이터베이스를 조회하지 않습니다.
+     */
+    @GetMapping("/{book-id}/similar")
+    public ResponseEntity<List<SimilarBookResponse>> findSimilarBooks(
+            @PathVariable("book-id") Integer bookId,
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size
     ) {
-        return ResponseEntity.ok(service.findById(bookId));
+        return ResponseEntity.ok(coBorrowIndex.findSimilar(bookId, size));
     }
 
     @GetMapping
@@ -38,6 +115,16 @@ public class BookController {
         return ResponseEntity.ok(service.findAllBooks(page, size, connectedUser));
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<BookResponse>> searchBooks(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "page", defaultValue = "0", required = false) int page,
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            Authentication connectedUser
+    ) {
+        return ResponseEntity.ok(service.searchBooks(query, page, size, connectedUser));
+    }
+
     @GetMapping("/owner")
     public ResponseEntity<PageResponse<BookResponse>> findAllBooksByOwner(
             @RequestParam(name = "page", defaultValue = "0", required = false) int page,
@@ -65,6 +152,73 @@ public class BookController {
         return ResponseEntity.ok(service.findAllReturnedBooks(page, size, connectedUser));
     }
 
+    /**
+     * 현재 사용자가 대여한 전체 내역을 NDJSON(format=NDJSON) 또는 CSV(format=CSV)로 응답 본문에 바로 씁니다.
+     */
+    @GetMapping(value = "/borrowed/export", produces = {"application/x-ndjson", "text/csv"})
+    public void exportBorrowedBooks(
+            @RequestParam(name = "format", defaultValue = "NDJSON", required = false) LoanHistoryExportFormat format,
+            Authentication connectedUser,
+            HttpServletResponse response
+    ) throws IOException {
+        exportService.exportBorrowedBooks(format, connectedUser, exportWriter(format, response));
+    }
+
+    /**
+     * 현재 사용자 소유 도서의 전체 대여/반납 내역을 NDJSON(format=NDJSON) 또는 CSV(format=CSV)로 응답 본문에 바로 씁니다.
+     */
+    @GetMapping(value = "/returned/export", produces = {"application/x-ndjson", "text/csv"})
+    public void exportReturnedBooks(
+            @RequestParam(name = "format", defaultValue = "NDJSON", required = false) LoanHistoryExportFormat format,
+            Authentication connectedUser,
+            HttpServletResponse response
+    ) throws IOException {
+        exportService.exportReturnedBooks(format, connectedUser, exportWriter(format, response));
+    }
+
+    private static Writer exportWriter(LoanHistoryExportFormat format, HttpServletResponse response) throws IOException {
+        response.setContentType(format.contentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        return response.getWriter();
+    }
+
+    // 커서 기반 목록: OFFSET/COUNT 없이 nextCursor로 다음 페이지를 요청
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorResponse<BookResponse>> scrollAllBooks(
+            @RequestParam(name = "cursor", required = false) Cursor cursor,
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            Authentication connectedUser
+    ) {
+        return ResponseEntity.ok(service.findAllBooks(cursor, size, connectedUser));
+    }
+
+    @GetMapping("/owner/scroll")
+    public ResponseEntity<CursorResponse<BookResponse>> scrollAllBooksByOwner(
+            @RequestParam(name = "cursor", required = false) Cursor cursor,
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            Authentication connectedUser
+    ) {
+        return ResponseEntity.ok(service.findAllBooksByOwner(cursor, size, connectedUser));
+    }
+
+    @GetMapping("/borrowed/scroll")
+    public ResponseEntity<CursorResponse<BorrowedBookResponse>> scrollAllBorrowedBooks(
+            @RequestParam(name = "cursor", required = false) Cursor cursor,
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            Authentication connectedUser
+    ) {
+        return ResponseEntity.ok(service.findAllBorrowedBooks(cursor, size, connectedUser));
+    }
+
+    @GetMapping("/returned/scroll")
+    public ResponseEntity<CursorResponse<BorrowedBookResponse>> scrollAllReturnedBooks(
+            @RequestParam(name = "cursor", required = false) Cursor cursor,
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            Authentication connectedUser
+    ) {
+        return ResponseEntity.ok(service.findAllReturnedBooks(cursor, size, connectedUser));
+    }
+
     @PatchMapping("/shareable/{book-id}")
     public ResponseEntity<Integer> updateShareableStatus(
             @PathVariable("book-id") Integer bookId,
@@ -115,4 +269,25 @@ public class BookController {
         service.uploadBookCoverPicture(bookId, file, connectedUser);
         return ResponseEntity.accepted().build();
     }
+
+    // ETag/Last-Modified가 설정된 200 응답은 HttpEntityMethodProcessor가 If-None-Match/If-Modified-Since를 검사해 304로 바꾸고,
+    // Resource 본문에 Range 헤더가 있으면 206 부분 응답으로 스트리밍합니다. 파일 전체를 힙에 올리지 않습니다.
+    // 로그인하지 않은 요청(connectedUser == null)은 공개 도서의 표지만 받으므로 공유 캐시에 저장할 수 있습니다.
+    @GetMapping("/cover/{book-id}")
+    public ResponseEntity<Resource> findBookCover(
+            @PathVariable("book-id") Integer bookId,
+            @RequestParam(name = "size", defaultValue = "ORIGINAL", required = false) CoverVariant size,
+            Authentication connectedUser
+    ) throws IOException {
+        Resource cover = service.findBookCover(bookId, size, connectedUser);
+        long lastModified = cover.lastModified();
+        long contentLength = cover.contentLength();
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(coverMaxAge));
+        return ResponseEntity.ok()
+                .eTag(Long.toHexString(lastModified) + "-" + Long.toHexString(contentLength))
+                .lastModified(lastModified)
+                .cacheControl(connectedUser == null ? cacheControl.cachePublic() : cacheControl.cachePrivate())
+                .contentType(MediaTypeFactory.getMediaType(cover).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .body(cover);
+    }
 }
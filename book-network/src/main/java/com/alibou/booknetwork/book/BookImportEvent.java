@@ -0,0 +1,34 @@
+package com.alibou.booknetwork.book;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 도서 일괄 등록 진행 이벤트 (응답 NDJSON의 한 줄)
+ *
+ * - error : 등록하지 못한 행의 줄 번호와 오류 목록
+ * - progress : 묶음(chunk)이 커밋될 때마다의 누적 처리 현황
+ * - summary : 마지막 줄, 최종 처리 현황
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BookImportEvent(
+        String type,
+        Long line,
+        List<String> errors,
+        Long processed,
+        Long imported,
+        Long failed
+) {
+    static BookImportEvent error(long line, List<String> errors) {
+        return new BookImportEvent("error", line, errors, null, null, null);
+    }
+
+    static BookImportEvent progress(long processed, long imported, long failed) {
+        return new BookImportEvent("progress", null, null, processed, imported, failed);
+    }
+
+    static BookImportEvent summary(long processed, long imported, long failed) {
+        return new BookImportEvent("summary", null, null, processed, imported, failed);
+    }
+}
@@ -0,0 +1,26 @@
+package com.alibou.booknetwork.book;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 도서 일괄 등록 입력 형식 (요청의 Content-Type으로 결정)
+ */
+public enum BookImportFormat {
+    CSV(MediaType.parseMediaType("text/csv")),
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"));
+
+    private final MediaType mediaType;
+
+    BookImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static BookImportFormat of(MediaType contentType) {
+        for (BookImportFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+    }
+}
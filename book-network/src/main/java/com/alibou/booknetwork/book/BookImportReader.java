@@ -0,0 +1,262 @@
+package com.alibou.booknetwork.book;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 도서 일괄 등록 입력(CSV/NDJSON)을 한 행씩 읽는 리더
+ *
+ * 입력 전체를 메모리에 올리지 않고 한 행만 버퍼링합니다.
+ * 한 필드(CSV) 또는 한 줄(NDJSON)이 maxRecordLength를 넘으면 나머지를 건너뛰고 해당 행만 오류로 반환하므로
+ * 메모리 사용량은 입력 크기와 무관합니다.
+ */
+abstract class BookImportReader {
+    private static final int END_OF_INPUT = -1;
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private int pushedBack = Integer.MIN_VALUE;
+    protected long lineNumber = 1;
+
+    private BookImportReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    static BookImportReader open(Reader reader, BookImportFormat format, ObjectMapper objectMapper, int maxRecordLength)
+            throws IOException {
+        BookImportReader importReader = switch (format) {
+            case CSV -> new Csv(reader, maxRecordLength);
+            case NDJSON -> new Ndjson(reader, maxRecordLength, objectMapper);
+        };
+        importReader.skipByteOrderMark();
+        if (importReader instanceof Csv csv) {
+            csv.readHeader();
+        }
+        return importReader;
+    }
+
+    /**
+     * 다음 행을 읽습니다.
+     *
+     * @return 다음 행 (입력이 끝나면 null)
+     * @throws IOException 입력을 읽지 못한 경우
+     */
+    abstract Row next() throws IOException;
+
+    /**
+     * 읽은 행
+     *
+     * @param line 행이 시작된 줄 번호 (1부터)
+     * @param request 변환된 요청 (형식 오류 시 null)
+     * @param error 형식 오류 메시지 (정상이면 null)
+     */
+    record Row(long line, BookRequest request, String error) {
+        static Row failed(long line, String error) {
+            return new Row(line, null, error);
+        }
+    }
+
+    protected int read() throws IOException {
+        if (pushedBack != Integer.MIN_VALUE) {
+            int c = pushedBack;
+            pushedBack = Integer.MIN_VALUE;
+            return c;
+        }
+        int c = reader.read();
+        if (c == '\n') {
+            lineNumber++;
+        }
+        return c;
+    }
+
+    protected void unread(int c) {
+        pushedBack = c;
+    }
+
+    protected boolean fits(StringBuilder value) {
+        return value.length() < maxRecordLength;
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        int c = read();
+        if (c != '\uFEFF') {
+            unread(c);
+        }
+    }
+
+    /**
+     * RFC 4180 CSV. 첫 행은 BookRequest 컴포넌트 이름(title, authorName, isbn, synopsis, shareable)으로 된 헤더입니다.
+     * 따옴표로 감싼 필드에는 쉼표, 줄바꿈, 이중 따옴표("")를 포함할 수 있습니다.
+     */
+    private static final class Csv extends BookImportReader {
+        private static final List<String> COLUMNS = List.of("title", "authorname", "isbn", "synopsis", "shareable");
+        private static final int MAX_FIELDS = 32;
+
+        private final int[] columnIndexes = new int[COLUMNS.size()];
+
+        private Csv(Reader reader, int maxRecordLength) {
+            super(reader, maxRecordLength);
+        }
+
+        private void readHeader() throws IOException {
+            Record header = readRecord();
+            if (header == null || header.error() != null) {
+                throw new IllegalArgumentException("CSV header row is missing or malformed");
+            }
+            Arrays.fill(columnIndexes, -1);
+            for (int i = 0; i < header.fields().size(); i++) {
+                int column = COLUMNS.indexOf(header.fields().get(i).strip().toLowerCase(Locale.ROOT));
+                if (column < 0) {
+                    throw new IllegalArgumentException("Unknown CSV column: " + header.fields().get(i));
+                }
+                columnIndexes[column] = i;
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            Record record;
+            do {
+                record = readRecord();
+            } while (record != null && record.isBlank());
+            if (record == null) {
+                return null;
+            }
+            if (record.error() != null) {
+                return Row.failed(record.line(), record.error());
+            }
+            return new Row(record.line(), new BookRequest(
+                    null,
+                    column(record, 0),
+                    column(record, 1),
+                    column(record, 2),
+                    column(record, 3),
+                    Boolean.parseBoolean(column(record, 4))
+            ), null);
+        }
+
+        private String column(Record record, int column) {
+            int index = columnIndexes[column];
+            return index < 0 || index >= record.fields().size() ? null : record.fields().get(index);
+        }
+
+        private Record readRecord() throws IOException {
+            int c = read();
+            if (c == END_OF_INPUT) {
+                return null;
+            }
+            long startLine = lineNumber;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean overflow = false;
+            while (c != END_OF_INPUT && (quoted || c != '\n')) {
+                if (quoted) {
+                    if (c == '"') {
+                        int following = read();
+                        if (following == '"') {
+                            overflow |= !append(field, '"');
+                        } else {
+                            quoted = false;
+                            unread(following);
+                        }
+                    } else {
+                        overflow |= !append(field, (char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    overflow |= !addField(fields, field);
+                    field.setLength(0);
+                } else if (c != '\r') {
+                    overflow |= !append(field, (char) c);
+                }
+                c = read();
+            }
+            overflow |= !addField(fields, field);
+
+            String error = null;
+            if (quoted) {
+                error = "Unterminated quoted field";
+            } else if (overflow) {
+                error = "Row is too long";
+            }
+            return new Record(startLine, fields, error);
+        }
+
+        // 너무 긴 필드나 너무 많은 필드는 더 이상 버퍼링하지 않고 행 끝까지 읽어 건너뜀
+        private boolean append(StringBuilder field, char c) {
+            if (!fits(field)) {
+                return false;
+            }
+            field.append(c);
+            return true;
+        }
+
+        private boolean addField(List<String> fields, StringBuilder field) {
+            if (fields.size() >= MAX_FIELDS) {
+                return false;
+            }
+            fields.add(field.toString());
+            return true;
+        }
+
+        private record Record(long line, List<String> fields, String error) {
+            boolean isBlank() {
+                return error == null && fields.size() == 1 && fields.get(0).isBlank();
+            }
+        }
+    }
+
+    /**
+     * 줄마다 BookRequest 형태의 JSON 객체 하나 (빈 줄은 건너뜀)
+     */
+    private static final class Ndjson extends BookImportReader {
+        private final ObjectMapper objectMapper;
+
+        private Ndjson(Reader reader, int maxRecordLength, ObjectMapper objectMapper) {
+            super(reader, maxRecordLength);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        Row next() throws IOException {
+            while (true) {
+                int c = read();
+                if (c == END_OF_INPUT) {
+                    return null;
+                }
+                long startLine = lineNumber;
+                StringBuilder line = new StringBuilder();
+                boolean tooLong = false;
+                while (c != END_OF_INPUT && c != '\n') {
+                    if (fits(line)) {
+                        line.append((char) c);
+                    } else {
+                        tooLong = true;
+                    }
+                    c = read();
+                }
+                if (tooLong) {
+                    return Row.failed(startLine, "Line is too long");
+                }
+                if (line.toString().isBlank()) {
+                    continue;
+                }
+                try {
+                    return new Row(startLine, objectMapper.readValue(line.toString(), BookRequest.class), null);
+                } catch (JsonProcessingException e) {
+                    return Row.failed(startLine, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.alibou.booknetwork.book;
+
+import com.alibou.booknetwork.security.CurrentUser;
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 도서 일괄 등록 서비스
+ *
+ * 입력을 한 행씩 읽어 검증하고, chunk-size개씩 하나의 트랜잭션으로 저장합니다.
+ * INSERT는 hibernate.jdbc.batch_size 단위의 JDBC 배치로 전송되며, ID는 pooled 시퀀스에서 미리 할당되므로
+ * 행마다 시퀀스를 조회하지 않습니다. 묶음을 커밋한 뒤 영속성 컨텍스트를 비우므로
+ * 메모리에는 최대 한 묶음의 엔티티만 남습니다.
+ *
+ * 묶음 단위로 커밋되므로 중간에 실패해도 이전 묶음은 등록된 상태로 남습니다.
+ */
+@Slf4j
+@Service
+public class BookImportService {
+    private final BookMapper bookMapper;
+    private final BookRepository bookRepository;
+    private final UserRepository userRepository;
+    private final BookSearchIndexer bookSearchIndexer;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+    private final int maxRecordLength;
+
+    public BookImportService(
+            BookMapper bookMapper,
+            BookRepository bookRepository,
+            UserRepository userRepository,
+            BookSearchIndexer bookSearchIndexer,
+            Validator validator,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            EntityManager entityManager,
+            @Value("${application.book-import.chunk-size:500}") int chunkSize,
+            @Value("${application.book-import.max-record-length:10000}") int maxRecordLength) {
+        this.bookMapper = bookMapper;
+        this.bookRepository = bookRepository;
+        this.userRepository = userRepository;
+        this.bookSearchIndexer = bookSearchIndexer;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * 입력의 모든 행을 현재 사용자 소유의 도서로 등록합니다.
+     *
+     * @param input CSV 또는 NDJSON 입력
+     * @param format 입력 형식
+     * @param connectedUser 현재 인증된 사용자 (등록되는 도서의 소유자)
+     * @param events 행 오류와 진행 현황을 받을 콜백 (요청 스레드에서 호출됨)
+     * @return 최종 처리 현황
+     * @throws IOException 입력을 읽지 못한 경우
+     */
+    public BookImportEvent importBooks(Reader input,
+                                       BookImportFormat format,
+                                       Authentication connectedUser,
+                                       Consumer<BookImportEvent> events) throws IOException {
+        Integer ownerId = CurrentUser.id(connectedUser);
+        Progress progress = new Progress();
+        BookImportReader reader;
+        try {
+            reader = BookImportReader.open(input, format, objectMapper, maxRecordLength);
+        } catch (IllegalArgumentException e) {
+            // CSV 헤더 오류: 어떤 행도 해석할 수 없으므로 첫 줄 오류로 보고하고 종료
+            events.accept(BookImportEvent.error(1, List.of(e.getMessage())));
+            return BookImportEvent.summary(0, 0, 0);
+        }
+        List<BookImportReader.Row> chunk = new ArrayList<>(chunkSize);
+        BookImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            progress.processed++;
+            List<String> errors = validate(row);
+            if (!errors.isEmpty()) {
+                progress.failed++;
+                events.accept(BookImportEvent.error(row.line(), errors));
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                insert(chunk, ownerId, progress, events);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insert(chunk, ownerId, progress, events);
+        }
+        return BookImportEvent.summary(progress.processed, progress.imported, progress.failed);
+    }
+
+    private List<String> validate(BookImportReader.Row row) {
+        if (row.error() != null) {
+            return List.of(row.error());
+        }
+        List<String> errors = new ArrayList<>();
+        if (row.request().id() != null) {
+            errors.add("id: must be empty");
+        }
+        validator.validate(row.request()).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(BookImportService::describe)
+                .forEach(errors::add);
+        return errors;
+    }
+
+    private static String describe(ConstraintViolation<BookRequest> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+    private void insert(List<BookImportReader.Row> chunk,
+                        Integer ownerId,
+                        Progress progress,
+                        Consumer<BookImportEvent> events) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User owner = userRepository.getReferenceById(ownerId);
+                List<Book> books = chunk.stream()
+                        .map(row -> {
+                            Book book = bookMapper.toBook(row.request());
+                            book.setOwner(owner);
+                            return book;
+                        })
+                        .toList();
+                bookRepository.saveAll(books);
+                bookSearchIndexer.indexNew(books);
+                entityManager.flush();
+                // 저장한 엔티티가 영속성 컨텍스트에 쌓이지 않도록 비움
+                entityManager.clear();
+            });
+            progress.imported += chunk.size();
+        } catch (DataAccessException e) {
+            log.warn("Book import chunk starting at line {} failed", chunk.get(0).line(), e);
+            progress.failed += chunk.size();
+            String message = "Not saved: " + e.getMostSpecificCause().getMessage();
+            chunk.forEach(row -> events.accept(BookImportEvent.error(row.line(), List.of(message))));
+        }
+        chunk.clear();
+        events.accept(BookImportEvent.progress(progress.processed, progress.imported, progress.failed));
+    }
+
+    private static final class Progress {
+        private long processed;
+        private long imported;
+        private long failed;
+    }
+}
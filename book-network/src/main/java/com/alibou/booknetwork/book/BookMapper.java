@@ -1,14 +1,18 @@
 package com.alibou.booknetwork.book;
 
+import com.alibou.booknetwork.file.CoverVariant;
 import com.alibou.booknetwork.file.FileUtils;
-import com.alibou.booknetwork.history.BookTransactionHistory;
+import com.alibou.booknetwork.history.LoanHistoryEntry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 public class BookMapper {
+    @Value("${application.file.cover-url-prefix}")
+    private String coverUrlPrefix; // 표지 스트리밍 엔드포인트의 경로 접두사
+
     public Book toBook(BookRequest request) {
         return Book.builder()
-                .id(request.id())
                 .title(request.title())
                 .isbn(request.isbn())
                 .authorName(request.authorName())
@@ -18,7 +22,31 @@ public class BookMapper {
                 .build();
     }
 
+    /**
+     * 수정 요청의 편집 가능한 필드만 기존 도서에 복사합니다.
+     * 표지, 보관 상태, 평점 집계 등 다른 경로로 관리되는 값은 그대로 둡니다.
+     */
+    public void updateBook(Book book, BookRequest request) {
+        book.setTitle(request.title());
+        book.setIsbn(request.isbn());
+        book.setAuthorName(request.authorName());
+        book.setSynopsis(request.synopsis());
+        book.setShareable(request.shareable());
+    }
+
+    /**
+     * 목록 응답용 변환. 표지는 바이트 대신 목록 크기 썸네일 URL로만 전달하므로 파일을 읽지 않습니다.
+     */
     public BookResponse toBookResponse(Book book) {
+        return toBookResponse(book, CoverVariant.LIST, false);
+    }
+
+    /**
+     * @param coverVariant 화면에 필요한 표지 크기. 준비된 썸네일 중 가장 작은 적합한 크기가 선택됩니다.
+     * @param inlineCover true이면 기존 클라이언트 호환을 위해 표지 바이트를 응답에 포함합니다.
+     */
+    public BookResponse toBookResponse(Book book, CoverVariant coverVariant, boolean inlineCover) {
+        CoverVariant variant = book.smallestReadyCoverVariant(coverVariant);
         return BookResponse.builder()
                 .id(book.getId())
                 .title(book.getTitle())
@@ -29,19 +57,58 @@ public class BookMapper {
                 .archived(book.isArchived())
                 .shareable(book.isShareable())
                 .owner(book.getOwner().fullName())
-                .cover(FileUtils.readFileFromLocation(book.getBookCover()))
+                .cover(inlineCover ? readCover(book, variant) : null)
+                .coverUrl(toCoverUrl(book, variant))
                 .build();
     }
 
-    public BorrowedBookResponse toBorrowedBookResponse(BookTransactionHistory history) {
+    /**
+     * 목록 프로젝션 변환. 엔티티 연관관계나 표지 파일에 접근하지 않습니다.
+     */
+    public BookResponse toBookResponse(BookSummary summary) {
+        CoverVariant variant = CoverVariant.smallestReady(
+                CoverVariant.LIST, summary.listCoverReady(), summary.detailCoverReady());
+        return BookResponse.builder()
+                .id(summary.id())
+                .title(summary.title())
+                .authorName(summary.authorName())
+                .isbn(summary.isbn())
+                .synopsis(summary.synopsis())
+                .rate(Book.rateOf(summary.ratingSum(), summary.ratingCount()))
+                .archived(summary.archived())
+                .shareable(summary.shareable())
+                .owner(summary.ownerFirstname() + " " + summary.ownerLastname())
+                .coverUrl(summary.bookCover() == null ? null : toCoverUrl(summary.id(), variant))
+                .build();
+    }
+
+    private byte[] readCover(Book book, CoverVariant variant) {
+        if (book.getBookCover() == null) {
+            return null;
+        }
+        return FileUtils.readFileFromLocation(variant.resolvePath(book.getBookCover()));
+    }
+
+    private String toCoverUrl(Book book, CoverVariant variant) {
+        if (book.getBookCover() == null) {
+            return null;
+        }
+        return toCoverUrl(book.getId(), variant);
+    }
+
+    private String toCoverUrl(Integer bookId, CoverVariant variant) {
+        return coverUrlPrefix + bookId + "?size=" + variant.name();
+    }
+
+    public BorrowedBookResponse toBorrowedBookResponse(LoanHistoryEntry history) {
         return BorrowedBookResponse.builder()
-                .id(history.getBook().getId())
-                .title(history.getBook().getTitle())
-                .authorName(history.getBook().getAuthorName())
-                .isbn(history.getBook().getIsbn())
-                .rate(history.getBook().getRate())
+                .id(history.getBookId())
+                .title(history.getTitle())
+                .authorName(history.getAuthorName())
+                .isbn(history.getIsbn())
+                .rate(Book.rateOf(history.getRatingSum(), history.getRatingCount()))
                 .returned(history.isReturned())
                 .returnApproved(history.isReturnApproved())
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.alibou.booknetwork.book;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도서의 일부 컬럼만 SQL 한 문장으로 갱신하는 BookRepository 조각입니다.
+ *
+ * JPQL 일괄 UPDATE는 Hibernate가 2차 캐시의 book 영역 전체를 비우므로,
+ * 도서 한 권만 바뀌는 갱신은 네이티브 쿼리로 실행하고 해당 도서의 캐시 항목만 제거합니다.
+ */
+public interface BookPartialUpdateRepository {
+
+    /**
+     * 평점 집계에 피드백 하나를 더합니다.
+     * 읽고-수정하고-쓰기 없이 DB에서 원자적으로 증가시키므로 동시 피드백이 유실되지 않습니다.
+     *
+     * @return 갱신된 행 수 (도서가 없으면 0)
+     */
+    @Transactional
+    int addRating(Integer bookId, double note);
+
+    /**
+     * 썸네일 생성이 끝난 표지의 크기들을 준비 완료로 기록합니다.
+     * 썸네일 생성 중 새 표지가 업로드되었다면 bookCover가 달라 갱신되지 않습니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    int markCoverVariantsReady(Integer bookId, String bookCover);
+}
@@ -0,0 +1,59 @@
+package com.alibou.booknetwork.book;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class BookPartialUpdateRepositoryImpl implements BookPartialUpdateRepository {
+    // 실제 테이블이 아닌 쿼리 공간을 지정하여 Hibernate가 book 캐시 영역 전체를 무효화하지 않게 함
+    private static final String QUERY_SPACE = "book_partial_update";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int addRating(Integer bookId, double note) {
+        return updateAndEvict(bookId, entityManager.createNativeQuery("""
+                        UPDATE book
+                        SET rating_sum = rating_sum + :note, rating_count = rating_count + 1
+                        WHERE id = :bookId
+                        """)
+                .setParameter("note", note));
+    }
+
+    @Override
+    public int markCoverVariantsReady(Integer bookId, String bookCover) {
+        return updateAndEvict(bookId, entityManager.createNativeQuery("""
+                        UPDATE book
+                        SET list_cover_ready = true, detail_cover_ready = true
+                        WHERE id = :bookId
+                        AND book_cover = :bookCover
+                        """)
+                .setParameter("bookCover", bookCover));
+    }
+
+    private int updateAndEvict(Integer bookId, Query query) {
+        int updated = query
+                .setParameter("bookId", bookId)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, QUERY_SPACE)
+                .executeUpdate();
+        evict(bookId);
+        // 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시에 올릴 수 있으므로 트랜잭션 종료 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(bookId);
+                }
+            });
+        }
+        return updated;
+    }
+
+    private void evict(Integer bookId) {
+        entityManager.getEntityManagerFactory().getCache().evict(Book.class, bookId);
+    }
+}
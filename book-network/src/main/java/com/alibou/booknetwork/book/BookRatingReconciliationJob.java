@@ -0,0 +1,26 @@
+package com.alibou.booknetwork.book;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 평점 집계 재계산 작업
+ *
+ * Book.ratingSum/ratingCount는 피드백 저장 시 증가 연산으로 갱신되지만,
+ * 피드백이 직접 수정/삭제되거나 집계 컬럼 도입 이전에 작성된 경우 값이 어긋날 수 있습니다.
+ * 이 작업은 Feedback 테이블 기준으로 모든 도서의 집계를 단일 UPDATE 문으로 다시 계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookRatingReconciliationJob {
+    private final BookRepository bookRepository;
+
+    @Scheduled(cron = "${application.rating.reconcile-cron:0 0 3 * * *}")
+    public void reconcile() {
+        int updated = bookRepository.recomputeRatings();
+        log.info("Recomputed rating aggregates for {} books", updated);
+    }
+}
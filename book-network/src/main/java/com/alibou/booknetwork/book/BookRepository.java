@@ -4,9 +4,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface BookRepository extends JpaRepository<Book, Integer>, JpaSpecificationExecutor<Book> { // JpaRepository provides CRUD operations, JpaSpecificationExecutor provides methods to execute JPA criteria queries
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BookRepository extends JpaRepository<Book, Integer>, JpaSpecificationExecutor<Book>, BookPartialUpdateRepository { // JpaRepository provides CRUD operations, JpaSpecificationExecutor provides methods to execute JPA criteria queries
     @Query("""
             SELECT book
             FROM Book book
@@ -15,4 +22,117 @@ public interface BookRepository extends JpaRepository<Book, Integer>, JpaSpecifi
             AND book.owner.id != :userId
             """)
     Page<Book> findAllDisplayableBooks(Pageable pageable, Integer userId);
+
+    // 목록 화면용 프로젝션. 소유자 이름과 평점 집계를 조인하여 단일 SQL로 조회
+    @Query(value = """
+            SELECT new com.alibou.booknetwork.book.BookSummary(
+                book.id, book.title, book.authorName, book.isbn, book.synopsis,
+                owner.firstname, owner.lastname, book.ratingSum, book.ratingCount,
+                book.archived, book.shareable, book.bookCover, book.listCoverReady, book.detailCoverReady, book.createdDate
+            )
+            FROM Book book
+            JOIN book.owner owner
+            WHERE book.archived = false
+            AND book.shareable = true
+            AND owner.id != :userId
+            """,
+            countQuery = """
+            SELECT COUNT(book)
+            FROM Book book
+            WHERE book.archived = false
+            AND book.shareable = true
+            AND book.owner.id != :userId
+            """)
+    Page<BookSummary> findDisplayableBookSummaries(Pageable pageable, @Param("userId") Integer userId);
+
+    @Query(value = """
+            SELECT new com.alibou.booknetwork.book.BookSummary(
+                book.id, book.title, book.authorName, book.isbn, book.synopsis,
+                owner.firstname, owner.lastname, book.ratingSum, book.ratingCount,
+                book.archived, book.shareable, book.bookCover, book.listCoverReady, book.detailCoverReady, book.createdDate
+            )
+            FROM Book book
+            JOIN book.owner owner
+            WHERE owner.id = :ownerId
+            """,
+            countQuery = """
+            SELECT COUNT(book)
+            FROM Book book
+            WHERE book.owner.id = :ownerId
+            """)
+    Page<BookSummary> findBookSummariesByOwner(Pageable pageable, @Param("ownerId") Integer ownerId);
+
+    // 검색 결과 페이지의 도서 ID로 목록 응답에 필요한 컬럼만 한 번에 조회 (순서는 호출 측에서 맞춤)
+    @Query("""
+            SELECT new com.alibou.booknetwork.book.BookSummary(
+                book.id, book.title, book.authorName, book.isbn, book.synopsis,
+                owner.firstname, owner.lastname, book.ratingSum, book.ratingCount,
+                book.archived, book.shareable, book.bookCover, book.listCoverReady, book.detailCoverReady, book.createdDate
+            )
+            FROM Book book
+            JOIN book.owner owner
+            WHERE book.id IN :ids
+            """)
+    List<BookSummary> findBookSummariesByIds(@Param("ids") Collection<Integer> ids);
+
+    // 검색 색인 항목이 없는 도서를 ID 순으로 조회 (색인 보충용)
+    @Query("""
+            SELECT book
+            FROM Book book
+            WHERE book.id > :afterId
+            AND NOT EXISTS (SELECT 1 FROM BookSearchTerm term WHERE term.bookId = book.id)
+            ORDER BY book.id
+            """)
+    List<Book> findUnindexedBooksAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    // 키셋 페이지네이션: OFFSET/COUNT 없이 (createdDate, id) 커서 이후의 행만 인덱스로 탐색
+    @Query("""
+            SELECT new com.alibou.booknetwork.book.BookSummary(
+                book.id, book.title, book.authorName, book.isbn, book.synopsis,
+                owner.firstname, owner.lastname, book.ratingSum, book.ratingCount,
+                book.archived, book.shareable, book.bookCover, book.listCoverReady, book.detailCoverReady, book.createdDate
+            )
+            FROM Book book
+            JOIN book.owner owner
+            WHERE book.archived = false
+            AND book.shareable = true
+            AND owner.id != :userId
+            AND (book.createdDate < :createdDate OR (book.createdDate = :createdDate AND book.id < :id))
+            ORDER BY book.createdDate DESC, book.id DESC
+            """)
+    List<BookSummary> findDisplayableBookSummariesAfter(
+            @Param("userId") Integer userId,
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") Integer id,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT new com.alibou.booknetwork.book.BookSummary(
+                book.id, book.title, book.authorName, book.isbn, book.synopsis,
+                owner.firstname, owner.lastname, book.ratingSum, book.ratingCount,
+                book.archived, book.shareable, book.bookCover, book.listCoverReady, book.detailCoverReady, book.createdDate
+            )
+            FROM Book book
+            JOIN book.owner owner
+            WHERE owner.id = :ownerId
+            AND (book.createdDate < :createdDate OR (book.createdDate = :createdDate AND book.id < :id))
+            ORDER BY book.createdDate DESC, book.id DESC
+            """)
+    List<BookSummary> findBookSummariesByOwnerAfter(
+            @Param("ownerId") Integer ownerId,
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") Integer id,
+            Pageable pageable
+    );
+
+    // Feedback 테이블 기준으로 모든 도서의 평점 집계를 한 번에 재계산
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE Book book
+            SET book.ratingSum = COALESCE((SELECT SUM(feedback.note) FROM Feedback feedback WHERE feedback.book.id = book.id), 0),
+                book.ratingCount = (SELECT COUNT(feedback.note) FROM Feedback feedback WHERE feedback.book.id = book.id)
+            """)
+    int recomputeRatings();
 }
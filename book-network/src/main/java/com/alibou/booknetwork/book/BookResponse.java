@@ -19,7 +19,8 @@ public class BookResponse {
     private String isbn;
     private String synopsis;
     private String owner;
-    private byte[] cover;
+    private byte[] cover; // inline-cover 모드에서만 채워집니다
+    private String coverUrl; // 표지 스트리밍 엔드포인트 경로 (GET /books/cover/{book-id})
     private double rate;
     private boolean archived;
     private boolean shareable;
@@ -0,0 +1,161 @@
+package com.alibou.booknetwork.book;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 도서 검색 색인 관리
+ *
+ * 도서가 저장될 때 같은 트랜잭션에서 해당 도서의 색인 항목만 다시 작성하므로
+ * 색인 갱신 비용은 카탈로그 크기와 무관합니다.
+ *
+ * 단어 추출 규칙 (색인과 질의에 동일하게 적용):
+ * - NFKC 정규화 후 소문자 변환, 문자/숫자가 아닌 문자 기준으로 분리
+ * - 2자 미만 단어는 제외, 64자 초과 단어는 잘라냄
+ * - 하이픈이 포함된 ISBN 형태(978-3-16-148410-0)는 하이픈을 제거한 하나의 단어로도 추출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookSearchIndexer {
+    static final int MAX_TERM_LENGTH = 64;
+    static final int MAX_QUERY_TERMS = 10;
+    private static final int TITLE_WEIGHT = 4;
+    private static final int AUTHOR_WEIGHT = 3;
+    private static final int ISBN_WEIGHT = 5;
+    private static final int SYNOPSIS_WEIGHT = 1;
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern ISBN = Pattern.compile("[0-9]{1,13}(-[0-9xX]{1,13}){1,4}");
+
+    private final BookSearchTermRepository searchTermRepository;
+    private final BookRepository bookRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 도서의 색인 항목을 다시 작성합니다. 호출 측 트랜잭션에 참여합니다.
+     *
+     * @param book 저장된 도서 (ID 필요)
+     */
+    @Transactional
+    public void index(Book book) {
+        searchTermRepository.deleteByBookId(book.getId());
+        searchTermRepository.saveAll(searchTermsOf(book).toList());
+    }
+
+    /**
+     * 새로 저장된 도서들의 색인 항목을 추가합니다.
+     * 기존 항목 삭제를 생략하므로 방금 저장한 도서(일괄 등록 등)에만 사용합니다.
+     *
+     * @param books 저장된 신규 도서 (ID 필요)
+     */
+    @Transactional
+    public void indexNew(List<Book> books) {
+        searchTermRepository.saveAll(books.stream().flatMap(BookSearchIndexer::searchTermsOf).toList());
+    }
+
+    /**
+     * 색인 항목이 없는 도서(색인 도입 이전에 저장된 도서 등)를 ID 순으로 나누어 색인합니다.
+     *
+     * @return 색인한 도서 수
+     */
+    public int indexMissingBooks() {
+        int indexed = 0;
+        Integer lastId = 0;
+        while (true) {
+            List<Book> batch = bookRepository.findUnindexedBooksAfter(lastId, PageRequest.ofSize(BACKFILL_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::index));
+            indexed += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        if (indexed > 0) {
+            log.info("Indexed {} books for search", indexed);
+        }
+        return indexed;
+    }
+
+    /**
+     * 검색어에서 질의 단어를 추출합니다. (최대 MAX_QUERY_TERMS개)
+     *
+     * @param query 검색어
+     * @return 중복 없는 질의 단어
+     */
+    static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : tokenize(query)) {
+            if (terms.size() == MAX_QUERY_TERMS) {
+                break;
+            }
+            terms.add(term);
+        }
+        return terms;
+    }
+
+    static Map<String, Integer> termsOf(Book book) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        addTerms(weights, book.getTitle(), TITLE_WEIGHT);
+        addTerms(weights, book.getAuthorName(), AUTHOR_WEIGHT);
+        addTerms(weights, book.getIsbn(), ISBN_WEIGHT);
+        addTerms(weights, book.getSynopsis(), SYNOPSIS_WEIGHT);
+        return weights;
+    }
+
+    private static Stream<BookSearchTerm> searchTermsOf(Book book) {
+        return termsOf(book).entrySet().stream()
+                .map(term -> BookSearchTerm.builder()
+                        .term(term.getKey())
+                        .bookId(book.getId())
+                        .weight(term.getValue())
+                        .build());
+    }
+
+    private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+        // 같은 필드에서 여러 번 나와도 한 번만 가중치를 더해 긴 시놉시스가 점수를 독식하지 않도록 함
+        for (String term : new LinkedHashSet<>(tokenize(text))) {
+            weights.merge(term, weight, Integer::sum);
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        for (String word : WHITESPACE.split(normalized.strip())) {
+            if (ISBN.matcher(word).matches()) {
+                terms.add(truncate(word.replace("-", "")));
+            }
+            for (String token : SEPARATOR.split(word)) {
+                if (token.length() >= 2) {
+                    terms.add(truncate(token));
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static String truncate(String term) {
+        return term.length() <= MAX_TERM_LENGTH ? term : term.substring(0, MAX_TERM_LENGTH);
+    }
+}
@@ -0,0 +1,47 @@
+package com.alibou.booknetwork.book;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 도서 검색용 역색인 항목
+ *
+ * 도서의 제목, 저자명, ISBN, 시놉시스에서 추출한 단어(term)마다 한 행을 저장합니다.
+ * 검색은 (term, book_id) 인덱스로 질의 단어의 항목만 읽으므로 LIKE '%kw%'와 달리
+ * 전체 도서 테이블을 스캔하지 않습니다.
+ * weight는 단어가 나타난 필드별 가중치의 합이며 관련도 정렬에 사용됩니다.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "book_search_term", indexes = {
+        @Index(name = "idx_book_search_term_term_book", columnList = "term, book_id"),
+        @Index(name = "idx_book_search_term_book", columnList = "book_id")
+})
+public class BookSearchTerm {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Column(nullable = false, length = BookSearchIndexer.MAX_TERM_LENGTH)
+    private String term;
+
+    // 도서 삭제/정리 작업이 색인에 막히지 않도록 외래 키 없이 ID만 저장 (조회 시 Book과 조인)
+    @Column(name = "book_id", nullable = false)
+    private Integer bookId;
+
+    private int weight;
+}
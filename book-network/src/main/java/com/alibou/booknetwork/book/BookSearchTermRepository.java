@@ -0,0 +1,45 @@
+package com.alibou.booknetwork.book;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface BookSearchTermRepository extends JpaRepository<BookSearchTerm, Long> {
+
+    @Modifying
+    @Query("""
+            DELETE FROM BookSearchTerm term
+            WHERE term.bookId = :bookId
+            """)
+    int deleteByBookId(@Param("bookId") Integer bookId);
+
+    // 일치한 질의 단어 수가 많은 순, 같으면 필드 가중치 합이 큰 순으로 정렬
+    @Query(value = """
+            SELECT term.bookId
+            FROM BookSearchTerm term
+            JOIN Book book ON book.id = term.bookId
+            WHERE term.term IN :terms
+            AND book.archived = false
+            AND book.shareable = true
+            AND book.owner.id != :userId
+            GROUP BY term.bookId
+            ORDER BY COUNT(term) DESC, SUM(term.weight) DESC, term.bookId DESC
+            """,
+            countQuery = """
+            SELECT COUNT(DISTINCT term.bookId)
+            FROM BookSearchTerm term
+            JOIN Book book ON book.id = term.bookId
+            WHERE term.term IN :terms
+            AND book.archived = false
+            AND book.shareable = true
+            AND book.owner.id != :userId
+            """)
+    Page<Integer> searchDisplayableBookIds(@Param("terms") Collection<String> terms,
+                                           @Param("userId") Integer userId,
+                                           Pageable pageable);
+}
@@ -1,25 +1,44 @@
 package com.alibou.booknetwork.book;
 
+import com.alibou.booknetwork.common.Cursor;
+import com.alibou.booknetwork.common.CursorResponse;
 import com.alibou.booknetwork.common.PageResponse;
 import com.alibou.booknetwork.exception.OperationNotPermittedException;
+import com.alibou.booknetwork.file.CoverThumbnailService;
+import com.alibou.booknetwork.file.CoverVariant;
 import com.alibou.booknetwork.file.FileStorageService;
+import com.alibou.booknetwork.history.ActiveLoan;
+import com.alibou.booknetwork.history.ActiveLoanRepository;
 import com.alibou.booknetwork.history.BookTransactionHistory;
 import com.alibou.booknetwork.history.BookTransactionHistoryRepository;
-import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.history.LoanHistoryEntry;
+import com.alibou.booknetwork.security.CurrentUser;
+import com.alibou.booknetwork.user.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-
-import static com.alibou.booknetwork.book.BookSpecification.withOwnerId;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 도서 관리 서비스
@@ -29,48 +48,103 @@ import static com.alibou.booknetwork.book.BookSpecification.withOwnerId;
  * 사용자 인증 정보를 기반으로 도서 소유자 확인 및 권한 검증을 수행합니다.
  */
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class BookService {
     private final BookRepository bookRepository;
     private final BookMapper bookMapper;
     private final BookTransactionHistoryRepository transactionHistoryRepository;
+    private final ActiveLoanRepository activeLoanRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
     private final FileStorageService fileStorageService;
+    private final CoverThumbnailService coverThumbnailService;
+    private final BookSearchIndexer bookSearchIndexer;
+    private final BookSearchTermRepository bookSearchTermRepository;
 
     /**
-     * 새 도서를 등록합니다.
+     * 새 도서를 등록하거나, 요청에 ID가 있으면 기존 도서를 수정합니다.
      * 
      * @param request 도서 정보가 담긴 요청 객체
      * @param connectedUser 현재 인증된 사용자
      * @return 저장된 도서의 ID
+     * @throws EntityNotFoundException 수정할 도서가 존재하지 않을 경우 발생
+     * @throws OperationNotPermittedException 현재 사용자가 수정할 도서의 소유자가 아닌 경우 발생
      */
+    @Transactional
     public Integer save(BookRequest request, Authentication connectedUser) {
         // getPrincipal()은 현재 인증된 사용자를 반환합니다.
-        // User 클래스는 UserDetails와 Principal 인터페이스를 구현하므로 User로 캐스팅 가능합니다.
-        User user = (User) connectedUser.getPrincipal();
+        // 주체는 User 엔티티이거나 claims-only 모드의 ClaimsPrincipal이므로 CurrentUser로 ID만 꺼냅니다.
+        Integer userId = CurrentUser.id(connectedUser);
         
         // Principal: 사용자의 신원을 나타내는 인터페이스로, 주로 사용자명과 같은 기본 정보를 제공합니다.
         // UserDetails: Spring Security에서 사용하는 사용자 상세 정보 인터페이스로, 사용자명, 비밀번호, 권한 등을 포함합니다.
         // Spring Security에서는 인증된 사용자의 UserDetails 객체가 SecurityContext에 저장되며,
         // 이후 Authentication 객체를 통해 해당 정보에 접근할 수 있습니다.
 
+        if (request.id() != null) {
+            // 새 객체를 병합하면 표지, 보관 상태, 평점 집계가 초기화되므로 기존 엔티티를 읽어 편집 가능한 필드만 변경
+            Book book = bookRepository.findById(request.id())
+                    .orElseThrow(() -> new EntityNotFoundException("No book found with ID:: " + request.id()));
+            if (!Objects.equals(book.getOwner().getId(), userId)) {
+                throw new OperationNotPermittedException("You cannot update others books");
+            }
+            bookMapper.updateBook(book, request);
+            bookSearchIndexer.index(book);
+            return book.getId();
+        }
+
         Book book = bookMapper.toBook(request);
-        book.setOwner(user);
-        return bookRepository.save(book).getId();
+        // 외래 키만 필요하므로 조회 없이 프록시 참조 사용
+        book.setOwner(userRepository.getReferenceById(userId));
+        Book saved = bookRepository.save(book);
+        // 같은 트랜잭션에서 검색 색인을 갱신하므로 저장된 도서는 즉시 검색됨
+        bookSearchIndexer.index(saved);
+        return saved.getId();
     }
 
     /**
      * ID로 도서를 조회합니다.
      * 
      * @param bookId 조회할 도서 ID
+     * @param inlineCover true이면 표지 바이트를 응답에 포함합니다 (기본은 coverUrl만 전달)
      * @return 도서 응답 객체
      * @throws EntityNotFoundException 도서가 존재하지 않을 경우 발생
      */
-    public BookResponse findById(Integer bookId) {
+    public BookResponse findById(Integer bookId, boolean inlineCover) {
         return bookRepository.findById(bookId)
-                .map(bookMapper::toBookResponse)
+                .map(book -> bookMapper.toBookResponse(book, CoverVariant.DETAIL, inlineCover))
                 .orElseThrow(() -> new EntityNotFoundException("Book not found"));
     }
 
+    /**
+     * 도서 표지 파일을 스트리밍용 Resource로 조회합니다.
+     * 파일 내용은 읽지 않으며, 실제 전송은 컨트롤러 응답 단계에서 스트림으로 이루어집니다.
+     * 
+     * 로그인하지 않은 요청에는 공유 가능하고 보관되지 않은 도서의 표지만 제공합니다.
+     * 
+     * @param bookId 도서 ID
+     * @param coverVariant 요청한 표지 크기 (썸네일이 준비되지 않았으면 더 큰 크기로 대체)
+     * @param connectedUser 현재 인증된 사용자 (로그인하지 않은 요청이면 null)
+     * @return 표지 파일 Resource
+     * @throws EntityNotFoundException 도서가 없거나, 로그인하지 않은 요청에 공개되지 않은 도서이거나, 표지 파일이 존재하지 않을 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public Resource findBookCover(Integer bookId, CoverVariant coverVariant, Authentication connectedUser) {
+        Book book = bookRepository.findById(bookId)
+                // 공개되지 않은 도서는 존재 여부도 알 수 없도록 없는 도서와 같은 응답
+                .filter(found -> connectedUser != null || (found.isShareable() && !found.isArchived()))
+                .orElseThrow(() -> new EntityNotFoundException("No book found with ID:: " + bookId));
+        if (book.getBookCover() == null) {
+            throw new EntityNotFoundException("No cover found for book with ID:: " + bookId);
+        }
+        Path coverPath = Path.of(book.smallestReadyCoverVariant(coverVariant).resolvePath(book.getBookCover()));
+        if (!Files.isReadable(coverPath)) {
+            throw new EntityNotFoundException("No cover found for book with ID:: " + bookId);
+        }
+        return new FileSystemResource(coverPath);
+    }
+
     /**
      * 공유 가능한 모든 도서 목록을 페이징하여 조회합니다.
      * 현재 사용자가 소유한 도서는 제외됩니다.
@@ -80,13 +154,15 @@ public class BookService {
      * @param connectedUser 현재 인증된 사용자
      * @return 페이징된 도서 응답 객체
      */
+    @Transactional(readOnly = true)
     public PageResponse<BookResponse> findAllBooks(int page, int size, Authentication connectedUser) {
-        User user = (User) connectedUser.getPrincipal();
+        Integer userId = CurrentUser.id(connectedUser);
         // 생성일 기준 내림차순으로 정렬된 페이지 요청 객체 생성
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
         
         // 공유 가능하고 보관 상태가 아니며, 현재 사용자가 소유하지 않은 도서 조회
-        Page<Book> books = bookRepository.findAllDisplayableBooks(pageable, user.getId());
+        // 응답에 필요한 컬럼만 프로젝션으로 조회하여 페이지당 쿼리 수가 도서 수와 무관하게 유지됨
+        Page<BookSummary> books = bookRepository.findDisplayableBookSummaries(pageable, userId);
         List<BookResponse> bookResponses = books.map(bookMapper::toBookResponse).toList();
 
         // 페이지 정보와 함께 응답 객체 생성
@@ -101,6 +177,48 @@ public class BookService {
         );
     }
 
+    /**
+     * 검색어와 관련도가 높은 순으로 대여 가능한 도서를 페이징하여 조회합니다.
+     * 
+     * 검색 색인(book_search_term)에서 질의 단어의 항목만 읽어 순위를 매기고,
+     * 해당 페이지의 도서만 프로젝션으로 조회합니다. (순위 조회 1회 + 전체 개수 조회 1회 + 도서 조회 1회)
+     * 
+     * @param query 검색어 (제목, 저자명, ISBN, 시놉시스 대상)
+     * @param page 페이지 번호
+     * @param size 페이지당 항목 수
+     * @param connectedUser 현재 인증된 사용자
+     * @return 관련도 순으로 정렬된 도서 응답 객체
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<BookResponse> searchBooks(String query, int page, int size, Authentication connectedUser) {
+        Integer userId = CurrentUser.id(connectedUser);
+        Pageable pageable = PageRequest.of(page, size);
+        Set<String> terms = BookSearchIndexer.queryTerms(query);
+        Page<Integer> bookIds = terms.isEmpty()
+                ? Page.empty(pageable)
+                : bookSearchTermRepository.searchDisplayableBookIds(terms, userId, pageable);
+
+        Map<Integer, BookSummary> summaries = bookIds.isEmpty()
+                ? Map.of()
+                : bookRepository.findBookSummariesByIds(bookIds.getContent()).stream()
+                        .collect(Collectors.toMap(BookSummary::id, Function.identity()));
+        // IN 조회는 순서를 보장하지 않으므로 순위 순서대로 다시 배치
+        List<BookResponse> bookResponses = bookIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(bookMapper::toBookResponse)
+                .toList();
+        return new PageResponse<>(
+                bookResponses,
+                bookIds.getNumber(),
+                bookIds.getSize(),
+                bookIds.getTotalElements(),
+                bookIds.getTotalPages(),
+                bookIds.isFirst(),
+                bookIds.isLast()
+        );
+    }
+
     /**
      * 현재 사용자가 소유한 도서 목록을 페이징하여 조회합니다.
      * 
@@ -109,13 +227,13 @@ public class BookService {
      * @param connectedUser 현재 인증된 사용자
      * @return 페이징된 도서 응답 객체
      */
+    @Transactional(readOnly = true)
     public PageResponse<BookResponse> findAllBooksByOwner(int page, int size, Authentication connectedUser) {
-        User user = (User) connectedUser.getPrincipal();
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Integer userId = CurrentUser.id(connectedUser);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
 
-        // JpaSpecificationExecutor 인터페이스를 사용한 동적 쿼리 수행
-        // withOwnerId는 BookSpecification에 정의된 명세(Specification)입니다.
-        Page<Book> books = bookRepository.findAll(withOwnerId(user.getId()), pageable);
+        // 소유자 이름과 평점 집계를 조인한 프로젝션 쿼리로 조회
+        Page<BookSummary> books = bookRepository.findBookSummariesByOwner(pageable, userId);
 
         List<BookResponse> booksResponse = books.stream()
                 .map(bookMapper::toBookResponse)
@@ -139,12 +257,14 @@ public class BookService {
      * @param connectedUser 현재 인증된 사용자
      * @return 페이징된 대여 도서 응답 객체
      */
+    @Transactional(readOnly = true)
     public PageResponse<BorrowedBookResponse> findAllBorrowedBooks(int page, int size, Authentication connectedUser) {
-        User user = ((User) connectedUser.getPrincipal());
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
+        Integer userId = CurrentUser.id(connectedUser);
+        // 정렬은 쿼리에 고정 (created_date DESC, id DESC)
+        Pageable pageable = PageRequest.of(page, size);
         
-        // 현재 사용자가 대여 중인 도서 거래 내역 조회
-        Page<BookTransactionHistory> allBorrowedBooks = transactionHistoryRepository.findAllBorrowedBooks(pageable, user.getId());
+        // 현재 사용자가 대여 중인 도서 거래 내역 조회 (진행 중인 내역과 보관된 내역을 함께 조회)
+        Page<LoanHistoryEntry> allBorrowedBooks = transactionHistoryRepository.findAllBorrowedBooks(pageable, userId);
         List<BorrowedBookResponse> booksResponse = allBorrowedBooks.stream()
                 .map(bookMapper::toBorrowedBookResponse)
                 .toList();
@@ -167,12 +287,14 @@ public class BookService {
      * @param connectedUser 현재 인증된 사용자
      * @return 페이징된 반납 도서 응답 객체
      */
+    @Transactional(readOnly = true)
     public PageResponse<BorrowedBookResponse> findAllReturnedBooks(int page, int size, Authentication connectedUser) {
-        User user = ((User) connectedUser.getPrincipal());
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
+        Integer userId = CurrentUser.id(connectedUser);
+        // 정렬은 쿼리에 고정 (created_date DESC, id DESC)
+        Pageable pageable = PageRequest.of(page, size);
         
-        // 현재 사용자가 반납한 도서 거래 내역 조회
-        Page<BookTransactionHistory> allBorrowedBooks = transactionHistoryRepository.findAllReturnedBooks(pageable, user.getId());
+        // 현재 사용자가 반납한 도서 거래 내역 조회 (진행 중인 내역과 보관된 내역을 함께 조회)
+        Page<LoanHistoryEntry> allBorrowedBooks = transactionHistoryRepository.findAllReturnedBooks(pageable, userId);
         List<BorrowedBookResponse> booksResponse = allBorrowedBooks.stream()
                 .map(bookMapper::toBorrowedBookResponse)
                 .toList();
@@ -187,6 +309,84 @@ public class BookService {
         );
     }
 
+    /**
+     * 공유 가능한 도서 목록을 커서 기반으로 조회합니다.
+     * OFFSET과 전체 개수 조회 없이 커서 이후의 행만 탐색하므로 뒤쪽 페이지도 첫 페이지와 비용이 같습니다.
+     * 
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지당 항목 수
+     * @param connectedUser 현재 인증된 사용자
+     * @return 커서 기반 도서 응답 객체
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<BookResponse> findAllBooks(Cursor cursor, int size, Authentication connectedUser) {
+        Integer userId = CurrentUser.id(connectedUser);
+        Cursor position = Cursor.startingAt(cursor);
+        int pageSize = Math.max(1, size);
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 1개를 더 조회
+        List<BookSummary> books = bookRepository.findDisplayableBookSummariesAfter(
+                userId, position.createdDate(), position.id(), PageRequest.ofSize(pageSize + 1));
+        return CursorResponse.of(books, pageSize, bookMapper::toBookResponse,
+                book -> new Cursor(book.createdDate(), book.id()));
+    }
+
+    /**
+     * 현재 사용자가 소유한 도서 목록을 커서 기반으로 조회합니다.
+     * 
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지당 항목 수
+     * @param connectedUser 현재 인증된 사용자
+     * @return 커서 기반 도서 응답 객체
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<BookResponse> findAllBooksByOwner(Cursor cursor, int size, Authentication connectedUser) {
+        Integer userId = CurrentUser.id(connectedUser);
+        Cursor position = Cursor.startingAt(cursor);
+        int pageSize = Math.max(1, size);
+        List<BookSummary> books = bookRepository.findBookSummariesByOwnerAfter(
+                userId, position.createdDate(), position.id(), PageRequest.ofSize(pageSize + 1));
+        return CursorResponse.of(books, pageSize, bookMapper::toBookResponse,
+                book -> new Cursor(book.createdDate(), book.id()));
+    }
+
+    /**
+     * 현재 사용자가 대여한 도서 목록을 커서 기반으로 조회합니다.
+     * 
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지당 항목 수
+     * @param connectedUser 현재 인증된 사용자
+     * @return 커서 기반 대여 도서 응답 객체
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<BorrowedBookResponse> findAllBorrowedBooks(Cursor cursor, int size, Authentication connectedUser) {
+        Integer userId = CurrentUser.id(connectedUser);
+        Cursor position = Cursor.startingAt(cursor);
+        int pageSize = Math.max(1, size);
+        List<LoanHistoryEntry> histories = transactionHistoryRepository.findBorrowedBooksAfter(
+                userId, position.createdDate(), position.id(), pageSize + 1);
+        return CursorResponse.of(histories, pageSize, bookMapper::toBorrowedBookResponse,
+                history -> new Cursor(history.getCreatedDate(), history.getId()));
+    }
+
+    /**
+     * 현재 사용자 소유 도서의 대여/반납 내역을 커서 기반으로 조회합니다.
+     * 
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지당 항목 수
+     * @param connectedUser 현재 인증된 사용자
+     * @return 커서 기반 반납 도서 응답 객체
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<BorrowedBookResponse> findAllReturnedBooks(Cursor cursor, int size, Authentication connectedUser) {
+        Integer userId = CurrentUser.id(connectedUser);
+        Cursor position = Cursor.startingAt(cursor);
+        int pageSize = Math.max(1, size);
+        List<LoanHistoryEntry> histories = transactionHistoryRepository.findReturnedBooksAfter(
+                userId, position.createdDate(), position.id(), pageSize + 1);
+        return CursorResponse.of(histories, pageSize, bookMapper::toBorrowedBookResponse,
+                history -> new Cursor(history.getCreatedDate(), history.getId()));
+    }
+
     /**
      * 도서의 공유 가능 상태를 토글합니다.
      * 도서 소유자만 이 작업을 수행할 수 있습니다.
@@ -197,13 +397,14 @@ public class BookService {
      * @throws EntityNotFoundException 도서가 존재하지 않을 경우 발생
      * @throws OperationNotPermittedException 현재 사용자가 도서 소유자가 아닌 경우 발생
      */
+    @Transactional
     public Integer updateShareableStatus(Integer bookId, Authentication connectedUser) {
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new EntityNotFoundException("No book found with ID:: " + bookId));
-        User user = ((User) connectedUser.getPrincipal());
+        Integer userId = CurrentUser.id(connectedUser);
         
         // 현재 사용자가 도서 소유자인지 확인
-        if (!Objects.equals(book.getOwner().getId(), user.getId())) {
+        if (!Objects.equals(book.getOwner().getId(), userId)) {
             throw new OperationNotPermittedException("You cannot update others books shareable status");
         }
         
@@ -223,13 +424,14 @@ public class BookService {
      * @throws EntityNotFoundException 도서가 존재하지 않을 경우 발생
      * @throws OperationNotPermittedException 현재 사용자가 도서 소유자가 아닌 경우 발생
      */
+    @Transactional
     public Integer updateArchivedStatus(Integer bookId, Authentication connectedUser) {
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new EntityNotFoundException("No book found with ID:: " + bookId));
-        User user = ((User) connectedUser.getPrincipal());
+        Integer userId = CurrentUser.id(connectedUser);
         
         // 현재 사용자가 도서 소유자인지 확인
-        if (!Objects.equals(book.getOwner().getId(), user.getId())) {
+        if (!Objects.equals(book.getOwner().getId(), userId)) {
             throw new OperationNotPermittedException("You cannot update others books archived status");
         }
         
@@ -252,41 +454,60 @@ public class BookService {
      *         - 이미 대여 중인 도서인 경우
      */
     public Integer borrowBook(Integer bookId, Authentication connectedUser) {
+        Integer userId = CurrentUser.id(connectedUser);
+        Integer historyId;
+        try {
+            // 대여 내역 저장과 active_loan 조건부 INSERT를 하나의 트랜잭션으로 처리
+            // 검사와 삽입이 한 문장이므로 동시 대여 요청 중 하나만 성공함
+            historyId = transactionTemplate.execute(status -> {
+                BookTransactionHistory bookTransactionHistory = transactionHistoryRepository.save(
+                        BookTransactionHistory.builder()
+                                .user(userRepository.getReferenceById(userId))
+                                .book(bookRepository.getReferenceById(bookId))
+                                .returned(false)
+                                .returnApproved(false)
+                                .build()
+                );
+                if (activeLoanRepository.claim(bookId, userId, bookTransactionHistory.getId()) == 0) {
+                    status.setRollbackOnly();
+                    return null;
+                }
+                return bookTransactionHistory.getId();
+            });
+        } catch (DataIntegrityViolationException e) {
+            // active_loan 기본 키(book_id) 위반: 반납 승인 전인 대여가 이미 존재
+            // (대여가 없다면 존재하지 않는 도서에 대한 외래 키 위반)
+            ActiveLoan activeLoan = activeLoanRepository.findById(bookId)
+                    .orElseThrow(() -> borrowRejection(bookId, userId));
+            if (Objects.equals(activeLoan.getUserId(), userId)) {
+                throw new OperationNotPermittedException("You already borrowed this book and it is still not returned or the return is not approved by the owner");
+            }
+            throw new OperationNotPermittedException("Te requested book is already borrowed");
+        }
+        if (historyId == null) {
+            throw borrowRejection(bookId, userId);
+        }
+        return historyId;
+    }
+
+    /**
+     * 조건부 INSERT가 0건일 때 실패 사유를 확인합니다. 실패한 요청에서만 도서를 조회합니다.
+     */
+    private RuntimeException borrowRejection(Integer bookId, Integer userId) {
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new EntityNotFoundException("No book found with ID:: " + bookId));
         
         // 도서가 보관 상태이거나 공유 불가능한 경우 예외 발생
         if (book.isArchived() || !book.isShareable()) {
-            throw new OperationNotPermittedException("The requested book cannot be borrowed since it is archived or not shareable");
+            return new OperationNotPermittedException("The requested book cannot be borrowed since it is archived or not shareable");
         }
         
-        User user = ((User) connectedUser.getPrincipal());
-        
         // 자신의 도서는 대여할 수 없음
-        if (Objects.equals(book.getOwner().getId(), user.getId())) {
-            throw new OperationNotPermittedException("You cannot borrow your own book");
-        }
-        
-        // 이미 이 사용자가 대여 중인지 확인
-        final boolean isAlreadyBorrowedByUser = transactionHistoryRepository.isAlreadyBorrowedByUser(bookId, user.getId());
-        if (isAlreadyBorrowedByUser) {
-            throw new OperationNotPermittedException("You already borrowed this book and it is still not returned or the return is not approved by the owner");
-        }
-
-        // 다른 사용자가 이미 대여 중인지 확인
-        final boolean isAlreadyBorrowedByOtherUser = transactionHistoryRepository.isAlreadyBorrowed(bookId);
-        if (isAlreadyBorrowedByOtherUser) {
-            throw new OperationNotPermittedException("Te requested book is already borrowed");
+        if (Objects.equals(book.getOwner().getId(), userId)) {
+            return new OperationNotPermittedException("You cannot borrow your own book");
         }
-
-        // 새 대여 거래 내역 생성
-        BookTransactionHistory bookTransactionHistory = BookTransactionHistory.builder()
-                .user(user)
-                .book(book)
-                .returned(false)
-                .returnApproved(false)
-                .build();
-        return transactionHistoryRepository.save(bookTransactionHistory).getId();
+        // 조회 사이에 도서 상태가 바뀐 경우
+        return new OperationNotPermittedException("The requested book cannot be borrowed");
     }
 
     /**
@@ -301,6 +522,7 @@ public class BookService {
      *         - 현재 사용자가 도서 소유자인 경우
      *         - 현재 사용자가 이 도서를 대여하지 않은 경우
      */
+    @Transactional
     public Integer returnBorrowedBook(Integer bookId, Authentication connectedUser) {
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new EntityNotFoundException("No book found with ID:: " + bookId));
@@ -310,15 +532,18 @@ public class BookService {
             throw new OperationNotPermittedException("The requested book is archived or not shareable");
         }
         
-        User user = ((User) connectedUser.getPrincipal());
+        Integer userId = CurrentUser.id(connectedUser);
         
         // 자신의 도서는 대여/반납할 수 없음
-        if (Objects.equals(book.getOwner().getId(), user.getId())) {
+        if (Objects.equals(book.getOwner().getId(), userId)) {
             throw new OperationNotPermittedException("You cannot borrow or return your own book");
         }
 
-        // 현재 사용자의 도서 대여 내역 조회
-        BookTransactionHistory bookTransactionHistory = transactionHistoryRepository.findByBookIdAndUserId(bookId, user.getId())
+        // 현재 사용자의 도서 대여 내역 조회 (active_loan과 대여 내역 모두 기본 키 조회)
+        BookTransactionHistory bookTransactionHistory = activeLoanRepository.findById(bookId)
+                .filter(activeLoan -> Objects.equals(activeLoan.getUserId(), userId))
+                .flatMap(activeLoan -> transactionHistoryRepository.findById(activeLoan.getHistoryId()))
+                .filter(history -> !history.isReturned())
                 .orElseThrow(() -> new OperationNotPermittedException("You did not borrow this book"));
 
         // 반납 상태로 설정
@@ -338,6 +563,7 @@ public class BookService {
      *         - 현재 사용자가 도서 소유자가 아닌 경우
      *         - 도서가 아직 반납되지 않은 경우
      */
+    @Transactional
     public Integer approveReturnBorrowedBook(Integer bookId, Authentication connectedUser) {
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new EntityNotFoundException("No book found with ID:: " + bookId));
@@ -347,19 +573,22 @@ public class BookService {
             throw new OperationNotPermittedException("The requested book is archived or not shareable");
         }
         
-        User user = ((User) connectedUser.getPrincipal());
+        Integer userId = CurrentUser.id(connectedUser);
         
         // 현재 사용자가 도서 소유자인지 확인
-        if (!Objects.equals(book.getOwner().getId(), user.getId())) {
+        if (!Objects.equals(book.getOwner().getId(), userId)) {
             throw new OperationNotPermittedException("You cannot approve the return of a book you do not own");
         }
 
-        // 도서 소유자 ID로 반납된 도서 대여 내역 조회
-        BookTransactionHistory bookTransactionHistory = transactionHistoryRepository.findByBookIdAndOwnerId(bookId, user.getId())
+        // 진행 중인 대여 중 반납된 내역 조회 (소유자는 위에서 확인)
+        BookTransactionHistory bookTransactionHistory = activeLoanRepository.findById(bookId)
+                .flatMap(activeLoan -> transactionHistoryRepository.findById(activeLoan.getHistoryId()))
+                .filter(BookTransactionHistory::isReturned)
                 .orElseThrow(() -> new OperationNotPermittedException("The book is not returned yet. You cannot approve its return"));
 
-        // 반납 승인 상태로 설정
+        // 반납 승인 상태로 설정하고 진행 중인 대여에서 제거하여 다시 대여 가능하게 함
         bookTransactionHistory.setReturnApproved(true);
+        activeLoanRepository.release(bookId);
         return transactionHistoryRepository.save(bookTransactionHistory).getId();
     }
 
@@ -372,16 +601,44 @@ public class BookService {
      * @throws EntityNotFoundException 도서가 존재하지 않을 경우 발생
      */
     public void uploadBookCoverPicture(Integer bookId, MultipartFile file, Authentication connectedUser) {
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new EntityNotFoundException("No book found with ID:: " + bookId));
+        // 파일 저장 서비스를 통해 이미지 저장
+        // 내용 해시 기반으로 저장되므로 같은 이미지는 한 번만 저장됨
+        // 파일 저장은 자체 잠금과 참조 수 갱신을 하므로 도서 트랜잭션 밖에서 수행
+        var bookCover = fileStorageService.saveFile(file);
 
-        User user = ((User) connectedUser.getPrincipal());
+        // 조회와 수정을 한 쓰기 트랜잭션으로 처리하여 복제본이 아닌 기본 DB에서 읽음
+        // 썸네일 작업은 커밋 이후에 시작되므로 markCoverVariantsReady가 새 표지를 볼 수 있음
+        String previousCover;
+        try {
+            previousCover = transactionTemplate.execute(status -> {
+                Book book = bookRepository.findById(bookId)
+                        .orElseThrow(() -> new EntityNotFoundException("No book found with ID:: " + bookId));
+                String previous = book.getBookCover();
+                book.setBookCover(bookCover);
+                // 새 표지의 썸네일이 만들어질 때까지는 원본을 제공
+                book.setListCoverReady(false);
+                book.setDetailCoverReady(false);
+                return previous;
+            });
+        } catch (EntityNotFoundException e) {
+            if (bookCover != null) {
+                fileStorageService.release(bookCover);
+            }
+            throw e;
+        }
 
-        // 파일 저장 서비스를 통해 이미지 저장
-        // 사용자 ID 기반으로 각 사용자별 폴더에 파일 저장
-        var bookCover = fileStorageService.saveFile(file, user.getId());
-        book.setBookCover(bookCover);
-        bookRepository.save(book);
+        if (bookCover != null) {
+            try {
+                coverThumbnailService.generateThumbnails(bookId, bookCover);
+            } catch (TaskRejectedException e) {
+                // 작업 큐가 가득 찬 경우 썸네일 없이 원본으로 계속 제공
+                log.warn("Cover thumbnail queue is full, book {} will be served with its original cover", bookId);
+            }
+        }
+        if (previousCover != null) {
+            // 새 표지가 참조를 얻은 뒤 이전 표지의 참조를 해제 (같은 내용이면 카운트만 원래대로 돌아감)
+            fileStorageService.release(previousCover);
+        }
     }
 }
 
@@ -428,7 +685,7 @@ public class BookService {
  *    
  *    public Integer borrowBook(Integer bookId, Authentication connectedUser) {
  *        // 기존 로직
- *        BookBorrowedEvent event = new BookBorrowedEvent(this, bookId, user.getId());
+ *        BookBorrowedEvent event = new BookBorrowedEvent(this, bookId, userId);
  *        eventPublisher.publishEvent(event);
  *        return transactionId;
  *    }
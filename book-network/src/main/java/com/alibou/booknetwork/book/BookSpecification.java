@@ -46,6 +46,8 @@ public class BookSpecification {
 
     /**
      * 제목에 특정 키워드가 포함된 도서를 검색하는 명세를 반환합니다.
+     * 부분 일치(LIKE '%kw%')이므로 인덱스를 사용하지 못합니다. 다른 조건으로 범위를 좁힌 뒤 사용하고,
+     * 키워드 검색은 BookService.searchBooks(/books/search)를 사용하세요.
      * 
      * @param keyword 검색할 키워드
      * @return 제목에 키워드가 포함된 도서를 검색하는 명세
@@ -64,6 +66,8 @@ public class BookSpecification {
 
     /**
      * 저자명에 특정 키워드가 포함된 도서를 검색하는 명세를 반환합니다.
+     * 부분 일치(LIKE '%kw%')이므로 인덱스를 사용하지 못합니다. 다른 조건으로 범위를 좁힌 뒤 사용하고,
+     * 키워드 검색은 BookService.searchBooks(/books/search)를 사용하세요.
      * 
      * @param authorName 검색할 저자명 키워드
      * @return 저자명에 키워드가 포함된 도서를 검색하는 명세
@@ -195,7 +199,10 @@ public class BookSpecification {
      * 
      * @param keyword 검색 키워드
      * @return 여러 필드에 대한 OR 조건의 명세
+     * @deprecated LIKE '%kw%' 조건은 인덱스를 사용할 수 없어 도서 테이블 전체를 스캔합니다.
+     *             키워드 검색은 검색 색인을 사용하는 BookService.searchBooks(/books/search)를 사용하세요.
      */
+    @Deprecated
     public static Specification<Book> searchByKeyword(String keyword) {
         return (root, query, criteriaBuilder) -> {
             if (!StringUtils.hasText(keyword)) {
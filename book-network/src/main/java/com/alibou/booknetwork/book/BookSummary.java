@@ -0,0 +1,28 @@
+package com.alibou.booknetwork.book;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도서 목록 조회용 프로젝션
+ *
+ * BookResponse에 필요한 컬럼만 소유자 이름과 평점 집계까지 포함해 단일 SQL로 조회합니다.
+ * 엔티티를 로딩하지 않으므로 owner/feedbacks 지연 로딩이 발생하지 않습니다.
+ */
+public record BookSummary(
+        Integer id,
+        String title,
+        String authorName,
+        String isbn,
+        String synopsis,
+        String ownerFirstname,
+        String ownerLastname,
+        double ratingSum,
+        int ratingCount,
+        boolean archived,
+        boolean shareable,
+        String bookCover,
+        boolean listCoverReady,
+        boolean detailCoverReady,
+        LocalDateTime createdDate
+) {
+}
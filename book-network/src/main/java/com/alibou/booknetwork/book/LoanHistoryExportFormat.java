@@ -0,0 +1,19 @@
+package com.alibou.booknetwork.book;
+
+/**
+ * 대여 내역 내보내기 형식 (요청 파라미터 format으로 결정, 잘못된 값은 400)
+ */
+public enum LoanHistoryExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    LoanHistoryExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,57 @@
+package com.alibou.booknetwork.book;
+
+import com.alibou.booknetwork.history.LoanHistoryEntry;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 내역 내보내기의 한 행 (NDJSON 한 줄 / CSV 한 행)
+ */
+public record LoanHistoryExportRow(
+        Integer id,
+        Integer bookId,
+        String title,
+        String authorName,
+        String isbn,
+        boolean returned,
+        boolean returnApproved,
+        LocalDateTime createdDate
+) {
+    static final String CSV_HEADER = "id,bookId,title,authorName,isbn,returned,returnApproved,createdDate";
+
+    static LoanHistoryExportRow of(LoanHistoryEntry entry) {
+        return new LoanHistoryExportRow(
+                entry.getId(),
+                entry.getBookId(),
+                entry.getTitle(),
+                entry.getAuthorName(),
+                entry.getIsbn(),
+                entry.isReturned(),
+                entry.isReturnApproved(),
+                entry.getCreatedDate()
+        );
+    }
+
+    String toCsv() {
+        return String.join(",",
+                String.valueOf(id),
+                String.valueOf(bookId),
+                csvField(title),
+                csvField(authorName),
+                csvField(isbn),
+                String.valueOf(returned),
+                String.valueOf(returnApproved),
+                String.valueOf(createdDate));
+    }
+
+    // RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 씀
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,99 @@
+package com.alibou.booknetwork.book;
+
+import com.alibou.booknetwork.common.Cursor;
+import com.alibou.booknetwork.history.BookTransactionHistoryRepository;
+import com.alibou.booknetwork.history.LoanHistoryEntry;
+import com.alibou.booknetwork.security.CurrentUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * 대여 내역 내보내기 서비스
+ *
+ * 목록 조회와 같은 키셋 쿼리로 batch-size개씩 읽어 바로 출력에 씁니다.
+ * OFFSET/COUNT가 없어 뒤쪽 묶음도 첫 묶음과 비용이 같고, 메모리에는 최대 한 묶음의 프로젝션만 남으므로
+ * 내역 수와 무관하게 힙 사용량이 일정합니다. 묶음마다 짧은 조회만 실행하므로 긴 트랜잭션이나 커넥션 점유도 없습니다.
+ */
+@Service
+public class LoanHistoryExportService {
+    private final BookTransactionHistoryRepository transactionHistoryRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public LoanHistoryExportService(
+            BookTransactionHistoryRepository transactionHistoryRepository,
+            ObjectMapper objectMapper,
+            @Value("${application.loan-export.batch-size:1000}") int batchSize) {
+        this.transactionHistoryRepository = transactionHistoryRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 현재 사용자가 대여한 내역을 최신순으로 내보냅니다.
+     *
+     * @param format 출력 형식
+     * @param connectedUser 현재 인증된 사용자
+     * @param out 출력 대상 (닫지 않음)
+     * @return 내보낸 행 수
+     * @throws IOException 출력에 쓰지 못한 경우
+     */
+    public long exportBorrowedBooks(LoanHistoryExportFormat format, Authentication connectedUser, Writer out)
+            throws IOException {
+        Integer userId = CurrentUser.id(connectedUser);
+        return export(format, out, (after, limit) ->
+                transactionHistoryRepository.findBorrowedBooksAfter(userId, after.createdDate(), after.id(), limit));
+    }
+
+    /**
+     * 현재 사용자 소유 도서의 대여/반납 내역을 최신순으로 내보냅니다.
+     *
+     * @param format 출력 형식
+     * @param connectedUser 현재 인증된 사용자
+     * @param out 출력 대상 (닫지 않음)
+     * @return 내보낸 행 수
+     * @throws IOException 출력에 쓰지 못한 경우
+     */
+    public long exportReturnedBooks(LoanHistoryExportFormat format, Authentication connectedUser, Writer out)
+            throws IOException {
+        Integer userId = CurrentUser.id(connectedUser);
+        return export(format, out, (after, limit) ->
+                transactionHistoryRepository.findReturnedBooksAfter(userId, after.createdDate(), after.id(), limit));
+    }
+
+    private long export(LoanHistoryExportFormat format, Writer out, KeysetQuery query) throws IOException {
+        if (format == LoanHistoryExportFormat.CSV) {
+            out.write(LoanHistoryExportRow.CSV_HEADER);
+            out.write('\n');
+        }
+        long exported = 0;
+        Cursor position = Cursor.startingAt(null);
+        while (true) {
+            List<LoanHistoryEntry> entries = query.fetch(position, batchSize);
+            for (LoanHistoryEntry entry : entries) {
+                LoanHistoryExportRow row = LoanHistoryExportRow.of(entry);
+                out.write(format == LoanHistoryExportFormat.CSV ? row.toCsv() : objectMapper.writeValueAsString(row));
+                out.write('\n');
+            }
+            exported += entries.size();
+            if (entries.size() < batchSize) {
+                out.flush();
+                return exported;
+            }
+            LoanHistoryEntry last = entries.get(entries.size() - 1);
+            position = new Cursor(last.getCreatedDate(), last.getId());
+            out.flush(); // 묶음마다 클라이언트로 전송하여 응답 버퍼가 쌓이지 않도록 함
+        }
+    }
+
+    @FunctionalInterface
+    private interface KeysetQuery {
+        List<LoanHistoryEntry> fetch(Cursor after, int limit);
+    }
+}
@@ -0,0 +1,54 @@
+package com.alibou.booknetwork.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션 위치
+ *
+ * (createdDate, id) 내림차순으로 정렬된 목록에서 마지막으로 전달한 행의 키를 담습니다.
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 토큰으로 전달되며,
+ * 다음 요청은 OFFSET 대신 "이 키보다 작은 행"을 인덱스로 탐색하므로 페이지 깊이와 무관하게 비용이 일정합니다.
+ *
+ * 컨트롤러 파라미터로 바로 받을 수 있도록 valueOf(String)을 제공합니다.
+ * 잘못된 토큰은 MethodArgumentTypeMismatchException(400)으로 처리됩니다.
+ */
+public record Cursor(LocalDateTime createdDate, Integer id) {
+
+    // 첫 페이지 조회용 시작 위치. 모든 행보다 뒤에 있는 키 (PostgreSQL timestamp 범위 이내)
+    private static final Cursor START = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Integer.MAX_VALUE);
+
+    /**
+     * 커서가 없으면 첫 페이지 시작 위치를 반환합니다.
+     */
+    public static Cursor startingAt(Cursor cursor) {
+        return cursor == null ? START : cursor;
+    }
+
+    /**
+     * 불투명 토큰을 커서로 변환합니다.
+     *
+     * @param token encode()로 생성된 토큰
+     * @return 커서
+     * @throws IllegalArgumentException 토큰 형식이 잘못된 경우
+     */
+    public static Cursor valueOf(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf('|');
+            return new Cursor(
+                    LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    Integer.valueOf(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,48 @@
+package com.alibou.booknetwork.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답
+ *
+ * PageResponse와 달리 전체 개수(COUNT)를 조회하지 않으며,
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 전달하여 요청합니다.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorResponse<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor; // 마지막 페이지이면 null
+    private boolean last;
+
+    /**
+     * size + 1개까지 조회한 결과로 응답을 만듭니다.
+     * 초과분이 있으면 다음 페이지가 존재하는 것으로 판단합니다.
+     *
+     * @param rows 최대 size + 1개의 조회 결과
+     * @param size 요청한 페이지 크기
+     * @param mapper 응답 변환 함수
+     * @param cursorOf 행의 커서 추출 함수
+     */
+    public static <E, T> CursorResponse<T> of(List<E> rows, int size, Function<E, T> mapper, Function<E, Cursor> cursorOf) {
+        boolean last = rows.size() <= size;
+        List<E> pageRows = last ? rows : rows.subList(0, size);
+        return new CursorResponse<>(
+                pageRows.stream().map(mapper).toList(),
+                size,
+                last ? null : cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode(),
+                last
+        );
+    }
+}
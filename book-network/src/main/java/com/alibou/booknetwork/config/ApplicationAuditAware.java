@@ -1,6 +1,6 @@
 package com.alibou.booknetwork.config;
 
-import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.security.CurrentUser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.AuditorAware;
@@ -67,16 +67,15 @@ public class ApplicationAuditAware implements AuditorAware<Integer> { // to tran
             // 인증 객체로부터 User 객체 추출
             Object principal = authentication.getPrincipal();
             
-            // Principal이 User 타입인지 검증
-            if (!(principal instanceof User)) {
+            // Principal이 User 또는 ClaimsPrincipal(claims-only 모드) 타입인지 검증
+            if (!CurrentUser.isSupported(principal)) {
                 logger.warn("감사 정보 기록: Principal이 예상된 User 타입이 아님 - {}", 
                         principal != null ? principal.getClass().getName() : "null");
                 return Optional.empty();
             }
     
             // Principal에서 User ID 추출
-            User userPrincipal = (User) principal;
-            Integer userId = userPrincipal.getId();
+            Integer userId = CurrentUser.id(authentication);
             
             logger.debug("감사 정보 기록: 사용자 ID {}", userId);
             return Optional.ofNullable(userId);
@@ -1,16 +1,29 @@
 package com.alibou.booknetwork.config;
 
+import com.alibou.booknetwork.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
 
 /**
  * 애플리케이션 빈 설정 클래스
@@ -53,11 +66,16 @@ public class BeansConfig {
      * DaoAuthenticationProvider는 UserDetailsService를 사용하여 사용자 정보를 로드하고,
      * PasswordEncoder를 사용하여 비밀번호를 검증합니다.
      * SecurityConfig에서 이 빈을 주입받아 사용합니다.
+     * 로그인에 성공한 사용자의 해시 cost가 설정값보다 낮으면 UserDetailsPasswordService로 다시 인코딩하여 저장합니다.
      * 
+     * @param passwordEncoder 해싱 전용 스레드 풀에서 실행되는 PasswordEncoder
+     * @param passwordUpgradeService 다시 인코딩한 비밀번호를 저장하는 서비스
      * @return 구성된 AuthenticationProvider 객체
      */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(
+            PasswordEncoder passwordEncoder,
+            UserDetailsPasswordService passwordUpgradeService) {
         // DaoAuthenticationProvider는 AuthenticationProvider의 구체적 구현체입니다
         // 이 클래스는 UserDetailsService와 PasswordEncoder를 사용하여 사용자 인증을 수행합니다.
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -70,7 +88,9 @@ public class BeansConfig {
         // PasswordEncoder는 비밀번호를 암호화하고 검증하는 인터페이스입니다.
         // 사용자가 입력한 비밀번호와 데이터베이스에 저장된 암호화된 비밀번호를 비교합니다.
         // passwordEncoder() 메서드는 이 클래스에 @Bean으로 정의되어야 합니다.
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // 인증 성공 후 passwordEncoder.upgradeEncoding이 true이면 원문 비밀번호를 다시 인코딩해 저장합니다.
+        authProvider.setUserDetailsPasswordService(passwordUpgradeService);
         // spring when he will perform checks, he will see or check if the password or raw password provided matches the hashed password.
         // if is does not match, user will not be authenticated.
         return authProvider; // 구성된 인증 제공자를 반환하여 Spring Security가 사용할 수 있게 합니다.
@@ -82,15 +102,32 @@ public class BeansConfig {
      * BCryptPasswordEncoder는 BCrypt 해싱 함수를 사용하여 비밀번호를 안전하게 해시화합니다.
      * 이를 통해 데이터베이스에 평문 비밀번호가 아닌 해시된 비밀번호를 저장할 수 있습니다.
      * 
-     * @return 비밀번호 인코딩을 위한 BCryptPasswordEncoder 객체
+     * 해싱은 요청 스레드가 아닌 passwordHashingExecutor에서 실행되며(BoundedPasswordEncoder),
+     * 풀이 포화 상태이면 요청은 503으로 바로 실패합니다.
+     * cost를 올리면 기존 해시는 해당 사용자의 다음 로그인 성공 시 새 cost로 다시 인코딩됩니다.
+     * 
+     * @param passwordHashingExecutor 비밀번호 해싱 전용 스레드 풀
+     * @param meterRegistry 해싱 시간/거절 건수 메트릭 등록용
+     * @param cost BCrypt cost (log rounds, 4~31)
+     * @param maxWaitMs 해싱 결과를 기다리는 최대 시간 (대기열 대기 포함)
+     * @return 비밀번호 인코딩을 위한 PasswordEncoder 객체
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public PasswordEncoder passwordEncoder(
+            @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.password-hashing.bcrypt-cost:10}") int cost,
+            @Value("${application.security.password-hashing.max-wait-ms:2000}") long maxWaitMs) {
         // BCryptPasswordEncoder는 Spring Security에서 제공하는 PasswordEncoder 구현체입니다.
         // 이 인코더는 BCrypt 해싱 함수를 사용하여 비밀번호를 안전하게 암호화합니다.
         // BCrypt는 솔트(salt)를 자동으로 생성하고 적용하여 레인보우 테이블 공격을 방지합니다.
         // 기본적으로 10라운드의 해싱을 수행하며, 이는 보안과 성능 사이의 균형을 제공합니다.
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(cost),
+                passwordHashingExecutor,
+                Duration.ofMillis(maxWaitMs),
+                meterRegistry
+        );
     }
 
     /**
@@ -123,6 +160,108 @@ public class BeansConfig {
     public AuditorAware<Integer> auditorAware() {
         return new ApplicationAuditAware();
     }
+
+    /**
+     * 기본 비동기 작업(@Async) 스레드 풀을 설정합니다.
+     * 
+     * 다른 Executor 빈이 등록되면 스프링 부트의 기본 applicationTaskExecutor가 생성되지 않으므로,
+     * spring.task.execution.* 설정을 그대로 따르는 기본 풀을 직접 등록합니다.
+     * 
+     * spring.threads.virtual.enabled가 켜져 있으면(virtual 프로필, Java 21 이상) 아래 virtualApplicationTaskExecutor가 대신 등록됩니다.
+     * 
+     * @param builder 스프링 부트가 제공하는 ThreadPoolTaskExecutor 빌더
+     * @return 기본 비동기 작업용 ThreadPoolTaskExecutor
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 기본 비동기 작업(@Async)을 작업마다 새 가상 스레드에서 실행하는 실행기를 설정합니다.
+     * 
+     * 가상 스레드 모드에서만 등록되며, spring.task.execution.simple.* 설정(동시 실행 수 제한 등)을 따릅니다.
+     * 썸네일/이메일/비밀번호 해싱 풀은 CPU 사용량이나 외부 연결 수를 제한하기 위한 것이므로 플랫폼 스레드 풀로 유지합니다.
+     * 
+     * @param builder 스프링 부트가 제공하는 SimpleAsyncTaskExecutor 빌더 (가상 스레드 사용으로 구성됨)
+     * @return 기본 비동기 작업용 SimpleAsyncTaskExecutor
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualApplicationTaskExecutor(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 표지 썸네일 생성 전용 스레드 풀을 설정합니다.
+     * 
+     * 이미지 디코딩은 CPU와 메모리를 많이 사용하므로 스레드 수와 대기열 크기를 제한합니다.
+     * 대기열이 가득 차면 TaskRejectedException이 발생하며, 호출 측은 원본 표지로 계속 제공합니다.
+     * 
+     * @param poolSize 동시에 처리할 썸네일 작업 수
+     * @param queueCapacity 대기 가능한 작업 수
+     * @return 썸네일 생성용 ThreadPoolTaskExecutor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor coverThumbnailExecutor(
+            @Value("${application.file.thumbnail.pool-size:2}") int poolSize,
+            @Value("${application.file.thumbnail.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("cover-thumbnail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이메일 발송 대기열 처리 전용 스레드 풀을 설정합니다.
+     * 
+     * 스레드마다 하나의 SMTP 연결로 묶음을 발송하므로, 스레드 수가 메일 서버에 대한 최대 동시 연결 수가 됩니다.
+     * EmailOutboxDispatcher는 폴링마다 스레드 수만큼의 묶음만 가져오고 완료를 기다리므로 대기열은 넘치지 않습니다.
+     * 
+     * @param poolSize 동시에 발송할 묶음 수
+     * @return 이메일 발송용 ThreadPoolTaskExecutor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor emailOutboxExecutor(
+            @Value("${application.mailing.outbox.workers:2}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize);
+        executor.setThreadNamePrefix("email-outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해싱 전용 스레드 풀을 설정합니다.
+     * 
+     * BCrypt 해싱은 CPU만 사용하므로 스레드 수를 코어 수 이하로 제한해 로그인이 몰려도 다른 API가 사용할 CPU를 남깁니다.
+     * 대기열이 가득 차면 TaskRejectedException이 발생하며, BoundedPasswordEncoder가 503 응답용 예외로 변환합니다.
+     * 
+     * @param poolSize 동시에 실행할 해싱 작업 수 (0 이하이면 코어 수의 절반)
+     * @param queueCapacity 대기 가능한 해싱 작업 수
+     * @return 비밀번호 해싱용 ThreadPoolTaskExecutor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${application.security.password-hashing.pool-size:0}") int poolSize,
+            @Value("${application.security.password-hashing.queue-capacity:50}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.initialize();
+        return executor;
+    }
 }
 
 /**
@@ -0,0 +1,126 @@
+package com.alibou.booknetwork.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 설정 클래스
+ *
+ * Book, User(roles 컬렉션 포함), Role 엔티티와 캐시 지정 쿼리 결과를 인프로세스 JCache(Caffeine) 캐시에 보관합니다.
+ * - 영역(region)은 모두 여기서 생성하며, 엔티티가 없는 영역을 참조하면 시작 시 실패합니다. (missing_cache_strategy=fail)
+ * - 영역마다 최대 항목 수와 저장 후 만료 시간을 둡니다. 갱신 타임스탬프 영역은 쿼리 캐시 정합성 판단에 쓰이므로 제거하지 않습니다.
+ * - 엔티티 저장/수정/삭제는 READ_WRITE 전략으로 커밋 시 캐시에 반영됩니다.
+ *   JPQL 일괄 UPDATE/DELETE는 대상 엔티티 영역 전체를 비우고, 네이티브 DML은 HINT_NATIVE_SPACES로 지정한 테이블만 무효화합니다.
+ *   (지정하지 않으면 모든 영역이 비워집니다)
+ * - 영역별 조회/저장/제거 수는 JCacheMetrics(cache.gets, cache.puts 등), 누적 적중률은 cache.hit.ratio 게이지로 기록합니다.
+ */
+@Configuration
+public class CacheConfig {
+    private static final String BOOK_REGION = "book";
+    private static final String USER_REGION = "user";
+    private static final String USER_ROLES_REGION = "user.roles";
+    private static final String ROLE_REGION = "role";
+
+    /**
+     * 2차 캐시 영역을 생성한 CacheManager를 반환합니다.
+     *
+     * 같은 JVM에서 여러 애플리케이션 컨텍스트(테스트)가 캐시를 공유하지 않도록 컨텍스트마다 별도 URI로 생성합니다.
+     * 컨텍스트 종료 시 close()로 닫힙니다.
+     *
+     * @return Hibernate가 사용할 JCache CacheManager
+     */
+    @Bean
+    public CacheManager hibernateCacheManager(
+            MeterRegistry meterRegistry,
+            @Value("${application.cache.book.max-size:10000}") long bookMaxSize,
+            @Value("${application.cache.book.ttl-seconds:600}") long bookTtlSeconds,
+            @Value("${application.cache.user.max-size:10000}") long userMaxSize,
+            @Value("${application.cache.user.ttl-seconds:300}") long userTtlSeconds,
+            @Value("${application.cache.role.max-size:100}") long roleMaxSize,
+            @Value("${application.cache.role.ttl-seconds:3600}") long roleTtlSeconds,
+            @Value("${application.cache.query.max-size:1000}") long queryMaxSize,
+            @Value("${application.cache.query.ttl-seconds:300}") long queryTtlSeconds) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("booknetwork-hibernate-" + UUID.randomUUID()), CacheConfig.class.getClassLoader());
+        createRegion(cacheManager, meterRegistry, BOOK_REGION, bookMaxSize, bookTtlSeconds);
+        createRegion(cacheManager, meterRegistry, USER_REGION, userMaxSize, userTtlSeconds);
+        createRegion(cacheManager, meterRegistry, USER_ROLES_REGION, userMaxSize, userTtlSeconds);
+        createRegion(cacheManager, meterRegistry, ROLE_REGION, roleMaxSize, roleTtlSeconds);
+        createRegion(cacheManager, meterRegistry,
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, queryMaxSize, queryTtlSeconds);
+        createRegion(cacheManager, meterRegistry,
+                RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 0, 0); // 테이블당 1개 항목
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate에 2차 캐시와 쿼리 캐시를 설정합니다.
+     *
+     * @param hibernateCacheManager 영역이 미리 생성된 CacheManager
+     * @return 2차 캐시 설정을 추가하는 HibernatePropertiesCustomizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    // maxSize, ttlSeconds가 0이면 제한 없음
+    private static void createRegion(
+            CacheManager cacheManager, MeterRegistry meterRegistry, String region, long maxSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maxSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        configuration.setStatisticsEnabled(true); // JCacheMetrics가 읽는 JMX 통계
+        Cache<Object, Object> cache = cacheManager.createCache(region, configuration);
+
+        JCacheMetrics.monitor(meterRegistry, cache);
+        Gauge.builder("cache.hit.ratio", meterRegistry, registry -> hitRatio(registry, region))
+                .description("Hibernate second-level cache hit ratio since startup")
+                .tag("cache", region)
+                .register(meterRegistry);
+    }
+
+    private static double hitRatio(MeterRegistry meterRegistry, String region) {
+        double hits = gets(meterRegistry, region, "hit");
+        double misses = gets(meterRegistry, region, "miss");
+        return hits + misses == 0 ? 0.0 : hits / (hits + misses);
+    }
+
+    private static double gets(MeterRegistry meterRegistry, String region, String result) {
+        FunctionCounter counter = meterRegistry.find("cache.gets")
+                .tags("cache", region, "result", result)
+                .functionCounter();
+        return counter == null || Double.isNaN(counter.count()) ? 0.0 : counter.count();
+    }
+}
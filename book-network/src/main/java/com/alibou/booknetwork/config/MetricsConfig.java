@@ -0,0 +1,62 @@
+package com.alibou.booknetwork.config;
+
+import com.alibou.booknetwork.metrics.SqlStatementCounter;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 관측 설정 클래스
+ *
+ * - 요청당 SQL 문 수: Hibernate StatementInspector(SqlStatementCounter)로 세어 SqlStatementCountFilter가 기록합니다.
+ * - 느린 쿼리 로그: DataSource를 datasource-proxy로 감싸 slow-query-threshold-ms를 넘긴 쿼리를
+ *   바인드 파라미터와 함께 booknetwork.sql.slow 로거에 WARN으로 남깁니다. (0 이하이면 사용하지 않음)
+ *
+ * 서비스/컨트롤러 메소드 타이머는 MethodTimingAspect, 요청 타이머는 Actuator의 http.server.requests가 담당합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Hibernate에 SQL 문 카운터를 등록합니다.
+     *
+     * @return StatementInspector를 설정하는 HibernatePropertiesCustomizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    /**
+     * DataSource를 느린 쿼리 로그용 프록시로 감쌉니다.
+     *
+     * 다른 빈보다 먼저 생성되어야 하므로 static으로 선언합니다.
+     *
+     * @param thresholdMs 느린 쿼리 기준 시간 (밀리초)
+     * @return DataSource를 감싸는 BeanPostProcessor
+     */
+    @Bean
+    public static BeanPostProcessor slowQueryLoggingDataSourcePostProcessor(
+            @Value("${application.metrics.slow-query-threshold-ms:0}") long thresholdMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (thresholdMs <= 0 || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .logSlowQueryBySlf4j(thresholdMs, TimeUnit.MILLISECONDS, SLF4JLogLevel.WARN, "booknetwork.sql.slow")
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.alibou.booknetwork.config;
+
+import com.alibou.booknetwork.datasource.ReadReplica;
+import com.alibou.booknetwork.datasource.ReplicaFallbackDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 클래스
+ *
+ * application.datasource.replica.enabled가 true이면 기본 DataSource를 LazyConnectionDataSourceProxy로 감싸
+ * @Transactional(readOnly = true) 트랜잭션은 복제본(ReadReplica)으로, 그 외는 기본 DB로 보냅니다.
+ * 연결은 첫 SQL 실행 시점에 트랜잭션의 읽기 전용 여부를 보고 가져오므로 Hibernate/JdbcTemplate 모두 같은 규칙을 따릅니다.
+ *
+ * - 읽기 전용 트랜잭션 밖에서 호출한 리포지토리 조회 메소드(SimpleJpaRepository 기본 readOnly)도 복제본을 사용합니다.
+ *   방금 쓴 데이터를 바로 읽어야 하는 흐름은 쓰기 트랜잭션 안에서 조회해야 합니다.
+ * - 느린 쿼리 프록시(MetricsConfig)보다 먼저 적용되므로 느린 쿼리 로그는 두 DB의 쿼리를 모두 기록합니다.
+ */
+@Configuration
+public class ReadReplicaConfig {
+
+    /**
+     * 기본 DataSource를 읽기/쓰기 분리 프록시로 감쌉니다.
+     *
+     * 다른 빈보다 먼저 생성되어야 하므로 static으로 선언하며,
+     * 순서가 없는 느린 쿼리 프록시보다 먼저 적용되도록 반환 타입을 PriorityOrdered 구현 클래스로 선언합니다.
+     *
+     * @param enabled 복제본 사용 여부
+     * @param readReplica 복제본 (첫 읽기 전용 연결 요청 시 조회)
+     * @return DataSource를 감싸는 BeanPostProcessor
+     */
+    @Bean
+    public static ReadReplicaRoutingPostProcessor readReplicaRoutingDataSourcePostProcessor(
+            @Value("${application.datasource.replica.enabled:false}") boolean enabled,
+            ObjectProvider<ReadReplica> readReplica) {
+        return new ReadReplicaRoutingPostProcessor(enabled, readReplica);
+    }
+
+    static final class ReadReplicaRoutingPostProcessor implements BeanPostProcessor, PriorityOrdered {
+        private final boolean enabled;
+        private final ObjectProvider<ReadReplica> readReplica;
+
+        ReadReplicaRoutingPostProcessor(boolean enabled, ObjectProvider<ReadReplica> readReplica) {
+            this.enabled = enabled;
+            this.readReplica = readReplica;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!enabled || !"dataSource".equals(beanName) || !(bean instanceof DataSource primary)
+                    || bean instanceof LazyConnectionDataSourceProxy) {
+                return bean;
+            }
+            LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+            routing.setReadOnlyDataSource(new ReplicaFallbackDataSource(primary, readReplica));
+            return routing;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.alibou.booknetwork.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 읽기 전용 복제본(replica) 연결 풀과 상태
+ *
+ * 읽기 전용 트랜잭션의 연결은 ReplicaFallbackDataSource를 거쳐 이 풀에서 가져옵니다.
+ * - check-interval-ms마다 lag-query로 복제 지연을 확인하여 max-lag-ms 이하일 때만 복제본을 사용합니다.
+ *   지연이 크거나 확인에 실패하면 다음 확인에서 회복될 때까지 읽기도 기본 DB로 보냅니다.
+ * - 첫 확인 전에는 사용하지 않으며, 연결을 가져오지 못하면 즉시 사용 중지 후 기본 DB로 보냅니다.
+ * - 풀 지표는 hikaricp.*{pool=replica}, 복제 지연은 db.replica.lag(밀리초), 사용 여부는 db.replica.available(1/0),
+ *   기본 DB로 보낸 읽기 연결 수는 db.replica.fallbacks로 기록합니다.
+ *
+ * application.datasource.replica.enabled가 true일 때만 생성됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "application.datasource.replica.enabled", havingValue = "true")
+public class ReadReplica {
+    static final String POOL_NAME = "replica";
+    // 기본 DB를 가리키면 0, 복제 중이면 마지막으로 적용한 트랜잭션 이후 경과 시간 (적용할 WAL이 없으면 0)
+    private static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END""";
+
+    private final HikariDataSource dataSource;
+    private final String lagQuery;
+    private final long maxLagMs;
+    private final Counter fallbacks;
+    private volatile boolean available;
+    private volatile long lagMs = -1;
+
+    public ReadReplica(
+            MeterRegistry meterRegistry,
+            @Value("${application.datasource.replica.url}") String url,
+            @Value("${application.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${application.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${application.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${application.datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMs,
+            @Value("${application.datasource.replica.max-lag-ms:1000}") long maxLagMs,
+            @Value("${application.datasource.replica.lag-query:}") String lagQuery) {
+        // 풀은 첫 연결 요청 시 시작됨 (복제본이 없어도 애플리케이션은 시작)
+        this.dataSource = new HikariDataSource();
+        this.dataSource.setPoolName(POOL_NAME);
+        this.dataSource.setJdbcUrl(url);
+        this.dataSource.setUsername(username);
+        this.dataSource.setPassword(password);
+        this.dataSource.setMaximumPoolSize(Math.max(1, maximumPoolSize));
+        this.dataSource.setConnectionTimeout(Math.max(250, connectionTimeoutMs));
+        this.dataSource.setReadOnly(true);
+        this.dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        this.lagQuery = lagQuery.isBlank() ? POSTGRES_LAG_QUERY : lagQuery;
+        this.maxLagMs = maxLagMs;
+        this.fallbacks = Counter.builder("db.replica.fallbacks")
+                .description("Read-only connections served by the primary because the replica was unavailable")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.lag", this, replica -> replica.lagMs)
+                .description("Replication lag of the read replica in milliseconds (-1 when unknown)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.available", this, replica -> replica.available ? 1 : 0)
+                .description("Whether read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 복제 지연을 확인하여 복제본 사용 여부를 갱신합니다.
+     *
+     * @return 복제본을 사용하면 true
+     */
+    @Scheduled(fixedDelayString = "${application.datasource.replica.check-interval-ms:5000}",
+            initialDelayString = "${application.datasource.replica.check-initial-delay-ms:0}")
+    public boolean checkLag() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            lagMs = resultSet.next() ? Math.round(resultSet.getDouble(1)) : -1;
+        } catch (SQLException e) {
+            lagMs = -1;
+            log.warn("Could not check replica lag: {}", e.getMessage());
+        }
+        boolean healthy = lagMs >= 0 && lagMs <= maxLagMs;
+        if (healthy != available) {
+            log.info("Read replica {} (lag {} ms, max {} ms)", healthy ? "enabled" : "disabled", lagMs, maxLagMs);
+        }
+        available = healthy;
+        return healthy;
+    }
+
+    /**
+     * 읽기 전용 연결을 반환합니다. 복제본을 사용할 수 없으면 기본 DB 연결을 반환합니다.
+     *
+     * @param primary 기본 DB
+     * @return 복제본 또는 기본 DB 연결
+     * @throws SQLException 기본 DB 연결도 가져오지 못한 경우
+     */
+    Connection getConnection(DataSource primary) throws SQLException {
+        if (available) {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                available = false;
+                log.warn("Read replica disabled until next lag check: {}", e.getMessage());
+            }
+        }
+        fallbacks.increment();
+        return primary.getConnection();
+    }
+
+    boolean isAvailable() {
+        return available;
+    }
+
+    DataSource getDataSource() {
+        return dataSource;
+    }
+
+    @PreDestroy
+    void close() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,35 @@
+package com.alibou.booknetwork.datasource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션용 DataSource
+ *
+ * 복제본을 사용할 수 있으면 복제본 연결을, 아니면 기본 DB 연결을 반환합니다.
+ * ReadReplica는 DataSource 생성 이후 첫 읽기 전용 연결 요청 시 조회하므로, DataSource가 다른 빈보다 먼저 생성되어도 됩니다.
+ */
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+    private final DataSource primary;
+    private final ObjectProvider<ReadReplica> readReplica;
+
+    public ReplicaFallbackDataSource(DataSource primary, ObjectProvider<ReadReplica> readReplica) {
+        this.primary = primary;
+        this.readReplica = readReplica;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return readReplica.getObject().getConnection(primary);
+    }
+
+    // 별도 계정 연결은 복제본 설정과 맞지 않으므로 기본 DB로 보냄
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+}
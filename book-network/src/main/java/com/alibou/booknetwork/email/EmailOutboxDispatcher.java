@@ -0,0 +1,206 @@
+package com.alibou.booknetwork.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이메일 발송 대기열 처리기
+ *
+ * 주기적으로 발송 시각이 된 항목을 조건부 UPDATE로 점유한 뒤, batch-size 단위로 나누어
+ * emailOutboxExecutor 스레드 풀에서 발송합니다. 각 묶음은 JavaMailSender.send(MimeMessage...)로
+ * 하나의 SMTP 연결을 재사용하여 발송됩니다.
+ *
+ * 실패한 항목은 지수 백오프(backoff-initial-seconds * 2^(시도 횟수-1), 최대 backoff-max-seconds)로
+ * 다시 예약되며, max-attempts회 실패하면 FAILED 상태로 남습니다.
+ * 발송 도중 인스턴스가 중단되면 점유 기한(lease-seconds)이 지난 뒤 다시 발송됩니다.
+ *
+ * 메트릭:
+ * - email.outbox.pending : 발송 대기 중인 항목 수
+ * - email.outbox.sent / email.outbox.retried / email.outbox.failed : 발송 결과별 누적 건수
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailService emailService;
+    private final JavaMailSender mailSender;
+    private final ThreadPoolTaskExecutor executor;
+    private final int batchSize;
+    private final int batchesPerPoll;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository outboxRepository,
+            EmailService emailService,
+            JavaMailSender mailSender,
+            @Qualifier("emailOutboxExecutor") ThreadPoolTaskExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${application.mailing.outbox.batch-size:20}") int batchSize,
+            @Value("${application.mailing.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${application.mailing.outbox.backoff-initial-seconds:30}") long initialBackoffSeconds,
+            @Value("${application.mailing.outbox.backoff-max-seconds:3600}") long maxBackoffSeconds,
+            @Value("${application.mailing.outbox.lease-seconds:120}") long leaseSeconds) {
+        this.outboxRepository = outboxRepository;
+        this.emailService = emailService;
+        this.mailSender = mailSender;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        // 한 번의 폴링에서 워커 수만큼의 묶음을 가져오므로 대기열에 작업이 쌓이지 않음
+        this.batchesPerPoll = executor.getMaxPoolSize();
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+
+        Gauge.builder("email.outbox.pending", pending, AtomicLong::get)
+                .description("Emails waiting in the outbox")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("email.outbox.sent").register(meterRegistry);
+        this.retriedCounter = Counter.builder("email.outbox.retried").register(meterRegistry);
+        this.failedCounter = Counter.builder("email.outbox.failed").register(meterRegistry);
+    }
+
+    /**
+     * 발송 시각이 된 항목을 점유하여 발송하고, 모든 묶음이 끝날 때까지 기다립니다.
+     *
+     * @return 이번 회차에 점유한 항목 수
+     */
+    @Scheduled(fixedDelayString = "${application.mailing.outbox.poll-interval-ms:2000}",
+            initialDelayString = "${application.mailing.outbox.poll-interval-ms:2000}")
+    public int dispatchDueMessages() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = outboxRepository.findDueIds(now, PageRequest.ofSize(batchSize * batchesPerPoll));
+        List<EmailOutboxMessage> claimed = List.of();
+        if (!dueIds.isEmpty()) {
+            String claimToken = UUID.randomUUID().toString();
+            outboxRepository.claim(dueIds, claimToken, now.plus(lease), now);
+            claimed = outboxRepository.findByClaimToken(claimToken);
+            List<Future<?>> batches = new ArrayList<>();
+            for (int from = 0; from < claimed.size(); from += batchSize) {
+                List<EmailOutboxMessage> batch = claimed.subList(from, Math.min(from + batchSize, claimed.size()));
+                batches.add(executor.submit(() -> deliver(batch)));
+            }
+            awaitAll(batches);
+        }
+        pending.set(outboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+        return claimed.size();
+    }
+
+    private void deliver(List<EmailOutboxMessage> batch) {
+        Map<MimeMessage, EmailOutboxMessage> rendered = new IdentityHashMap<>();
+        Map<EmailOutboxMessage, Exception> failures = new IdentityHashMap<>();
+        for (EmailOutboxMessage message : batch) {
+            try {
+                rendered.put(emailService.render(message), message);
+            } catch (MessagingException | RuntimeException e) {
+                failures.put(message, e);
+            }
+        }
+        if (!rendered.isEmpty()) {
+            try {
+                // 한 번의 호출로 하나의 SMTP 연결을 열어 묶음 전체를 발송
+                mailSender.send(rendered.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                if (e.getFailedMessages().isEmpty()) {
+                    rendered.values().forEach(message -> failures.put(message, e));
+                }
+                e.getFailedMessages().forEach((mimeMessage, cause) -> {
+                    EmailOutboxMessage message = rendered.get(mimeMessage);
+                    if (message != null) {
+                        failures.put(message, cause);
+                    }
+                });
+            } catch (MailException e) {
+                rendered.values().forEach(message -> failures.put(message, e));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (EmailOutboxMessage message : batch) {
+            message.setClaimToken(null);
+            Exception failure = failures.get(message);
+            if (failure == null) {
+                message.setStatus(EmailOutboxStatus.SENT);
+                message.setSentAt(now);
+                message.setLastError(null);
+                sentCounter.increment();
+            } else {
+                markFailed(message, failure, now);
+            }
+        }
+        outboxRepository.saveAll(batch);
+    }
+
+    private void markFailed(EmailOutboxMessage message, Exception failure, LocalDateTime now) {
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        message.setLastError(abbreviate(String.valueOf(failure.getMessage())));
+        if (attempts >= maxAttempts) {
+            message.setStatus(EmailOutboxStatus.FAILED);
+            failedCounter.increment();
+            log.error("Giving up email {} to {} after {} attempts", message.getId(), message.getRecipient(), attempts, failure);
+            return;
+        }
+        message.setStatus(EmailOutboxStatus.PENDING);
+        message.setNextAttemptAt(now.plus(backoff(attempts)));
+        retriedCounter.increment();
+        log.warn("Email {} to {} failed (attempt {}), retrying at {}: {}",
+                message.getId(), message.getRecipient(), attempts, message.getNextAttemptAt(), failure.getMessage());
+    }
+
+    private Duration backoff(int attempts) {
+        // 2^(attempts-1)배, 오버플로를 피하기 위해 지수를 제한
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    private static void awaitAll(List<Future<?>> batches) {
+        for (Future<?> batch : batches) {
+            try {
+                batch.get();
+            } catch (ExecutionException e) {
+                // 결과를 기록하지 못한 항목은 점유 기한이 지나면 다시 발송됨
+                log.error("Email outbox batch failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
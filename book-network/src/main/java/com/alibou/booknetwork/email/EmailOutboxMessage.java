@@ -0,0 +1,63 @@
+package com.alibou.booknetwork.email;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이메일 발송 대기열(outbox) 항목
+ *
+ * 발송할 이메일을 호출 측 트랜잭션 안에서 저장해 두고, EmailOutboxDispatcher가 별도로 발송합니다.
+ * 사용자 등록이 커밋되면 이메일도 반드시 대기열에 남으므로 메일 서버 장애 시에도 유실되지 않습니다.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_email_outbox_claim_token", columnList = "claim_token")
+})
+public class EmailOutboxMessage {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+    private String username;
+    @Column(nullable = false)
+    private String templateName;
+    private String confirmationUrl;
+    private String activationCode;
+    private String subject;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EmailOutboxStatus status;
+    private int attempts;
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 발송 시도 시각 (SENDING 상태에서는 점유 만료 시각)
+    private String claimToken; // 이 항목을 점유한 발송 회차
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+}
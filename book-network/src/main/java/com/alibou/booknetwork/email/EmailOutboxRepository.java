@@ -0,0 +1,45 @@
+package com.alibou.booknetwork.email;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    // 발송 시각이 된 대기 항목과 점유 기한이 지난 발송 중 항목(워커 중단 등)
+    @Query("""
+            SELECT message.id
+            FROM EmailOutboxMessage message
+            WHERE message.status IN (com.alibou.booknetwork.email.EmailOutboxStatus.PENDING, com.alibou.booknetwork.email.EmailOutboxStatus.SENDING)
+            AND message.nextAttemptAt <= :now
+            ORDER BY message.nextAttemptAt
+            """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조건부 UPDATE로 점유하므로 여러 인스턴스가 같은 항목을 동시에 발송하지 않음
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE EmailOutboxMessage message
+            SET message.status = com.alibou.booknetwork.email.EmailOutboxStatus.SENDING,
+                message.claimToken = :claimToken,
+                message.nextAttemptAt = :leaseUntil
+            WHERE message.id IN :ids
+            AND message.status IN (com.alibou.booknetwork.email.EmailOutboxStatus.PENDING, com.alibou.booknetwork.email.EmailOutboxStatus.SENDING)
+            AND message.nextAttemptAt <= :now
+            """)
+    int claim(@Param("ids") List<Long> ids,
+              @Param("claimToken") String claimToken,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now);
+
+    List<EmailOutboxMessage> findByClaimToken(String claimToken);
+
+    long countByStatus(EmailOutboxStatus status);
+}
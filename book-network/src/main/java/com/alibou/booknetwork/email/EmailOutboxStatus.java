@@ -0,0 +1,8 @@
+package com.alibou.booknetwork.email;
+
+public enum EmailOutboxStatus {
+    PENDING, // 발송 대기 (재시도 대기 포함)
+    SENDING, // 워커가 점유하여 발송 중 (점유 기한이 지나면 다시 가져갈 수 있음)
+    SENT,
+    FAILED // 최대 재시도 횟수 초과
+}
@@ -5,12 +5,13 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,26 +19,28 @@ import java.util.Map;
  * 이메일 서비스
  * 
  * 이 서비스는 애플리케이션 내에서 사용자에게 이메일을 발송하는 기능을 제공합니다.
- * Thymeleaf 템플릿 엔진을 사용하여 HTML 이메일을 생성하고,
- * JavaMailSender를 통해 비동기 방식으로 발송합니다.
+ * 발송 요청은 호출 측 트랜잭션 안에서 email_outbox 테이블에 저장되고,
+ * EmailOutboxDispatcher가 크기가 제한된 스레드 풀에서 묶음 단위로 발송합니다.
  * 
  * 주요 기능:
- * - 템플릿 기반 HTML 이메일 생성
- * - 비동기 이메일 발송으로 응답 시간 개선
+ * - 템플릿 기반 HTML 이메일 생성 (Thymeleaf)
+ * - 발송 대기열 저장으로 응답 시간 개선 및 메일 서버 장애 시 유실 방지
  * - 계정 활성화, 알림 등 다양한 용도의 이메일 지원
  */
 @Service
 @RequiredArgsConstructor
 public class EmailService {
+    private static final String DEFAULT_TEMPLATE = "confirm-email";
+
     private final JavaMailSender mailSender;
     private final SpringTemplateEngine templateEngine;
+    private final EmailOutboxRepository outboxRepository;
 
     /**
-     * 이메일을 비동기적으로 발송합니다.
+     * 이메일을 발송 대기열에 저장합니다.
      * 
-     * @Async 어노테이션을 통해 별도의 스레드에서 실행되므로,
-     * 이메일 발송으로 인해 사용자 응답이 지연되지 않습니다.
-     * 메인 애플리케이션 클래스에서 비동기 처리 활성화가 필요합니다.
+     * 호출 측 트랜잭션에 참여하므로 사용자 등록 등이 롤백되면 이메일도 저장되지 않고,
+     * 커밋되면 메일 서버 상태와 무관하게 EmailOutboxDispatcher가 발송(및 재시도)합니다.
      * 
      * @param to 수신자 이메일 주소
      * @param username 수신자 이름
@@ -45,24 +48,39 @@ public class EmailService {
      * @param confirmationUrl 확인 URL (예: 계정 활성화 링크)
      * @param activationCode 활성화 코드
      * @param subject 이메일 제목
-     * @throws MessagingException 이메일 발송 중 오류 발생 시
      */
-    @Async
-    public void sendEmail(String to,
-                          String username,
-                          EmailTemplateName emailTemplateName,
-                          String confirmationUrl,
-                          String activationCode,
-                          String subject) throws MessagingException {
-
-        // 템플릿 이름 결정 - 기본값은 "confirm-email"
-        String templateName;
-        if (emailTemplateName == null) {
-            templateName = "confirm-email";
-        } else {
-            templateName = emailTemplateName.name();
-        }
+    @Transactional
+    public void queueEmail(String to,
+                           String username,
+                           EmailTemplateName emailTemplateName,
+                           String confirmationUrl,
+                           String activationCode,
+                           String subject) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.save(EmailOutboxMessage.builder()
+                .recipient(to)
+                .username(username)
+                // 템플릿 이름 결정 - 기본값은 "confirm-email"
+                .templateName(emailTemplateName == null ? DEFAULT_TEMPLATE : emailTemplateName.getName())
+                .confirmationUrl(confirmationUrl)
+                .activationCode(activationCode)
+                .subject(subject)
+                .status(EmailOutboxStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
 
+    /**
+     * 대기열 항목으로 발송할 MIME 메시지를 생성합니다.
+     * 
+     * 발송은 하지 않으며, EmailOutboxDispatcher가 여러 메시지를 한 SMTP 연결로 묶어 발송합니다.
+     * 
+     * @param message 발송 대기열 항목
+     * @return 발송할 MIME 메시지
+     * @throws MessagingException 메시지 생성 중 오류 발생 시
+     */
+    public MimeMessage render(EmailOutboxMessage message) throws MessagingException {
         // MIME 메시지 생성
         MimeMessage mimeMessage = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(mimeMessage,
@@ -71,9 +89,9 @@ public class EmailService {
 
         // 템플릿에 전달할 변수 설정
         Map<String, Object> properties = new HashMap<>();
-        properties.put("username", username);
-        properties.put("confirmationUrl", confirmationUrl);
-        properties.put("activation_code", activationCode);
+        properties.put("username", message.getUsername());
+        properties.put("confirmationUrl", message.getConfirmationUrl());
+        properties.put("activation_code", message.getActivationCode());
 
         // Thymeleaf 컨텍스트 설정
         Context context = new Context();
@@ -81,17 +99,12 @@ public class EmailService {
 
         // 이메일 기본 정보 설정
         helper.setFrom("contact@aliboucoding.com");
-        helper.setTo(to);
-        helper.setSubject(subject);
-
-        // 템플릿 처리하여 HTML 이메일 본문 생성
-        String template = templateEngine.process(templateName, context);
-
-        // 이메일 본문 설정 (true는 HTML 형식을 의미)
-        helper.setText(template, true);
+        helper.setTo(message.getRecipient());
+        helper.setSubject(message.getSubject());
 
-        // 이메일 발송
-        mailSender.send(mimeMessage);
+        // 템플릿 처리하여 HTML 이메일 본문 생성 (true는 HTML 형식을 의미)
+        helper.setText(templateEngine.process(message.getTemplateName(), context), true);
+        return mimeMessage;
     }
 }
 
@@ -0,0 +1,23 @@
+package com.alibou.booknetwork.exception;
+
+/**
+ * 비밀번호 해싱 스레드 풀이 포화 상태일 때 발생하는 예외
+ *
+ * 로그인/회원가입이 한꺼번에 몰려 해싱 대기열이 가득 찼거나 대기 시간을 넘긴 경우에 발생합니다.
+ * 요청 스레드가 해싱을 기다리며 쌓이지 않도록 바로 실패시키며,
+ * GlobalExceptionHandler에서 503(Service Unavailable) 응답으로 변환됩니다.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 원인 예외를 포함한 생성자
+     *
+     * @param message 예외 메시지
+     * @param cause 원인 예외
+     */
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
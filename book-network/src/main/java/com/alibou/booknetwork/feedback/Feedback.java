@@ -5,8 +5,10 @@ import com.alibou.booknetwork.book.Book;
 import com.alibou.booknetwork.common.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,6 +21,8 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = // 도서별 피드백 목록 조회와 통계 재계산(최신 평점)용
+        @Index(name = "idx_feedback_book_created_date_id", columnList = "book_id, created_date, id"))
 public class Feedback extends BaseEntity {
 
     @Column
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Feedback")
 public class FeedbackController {
     private final FeedbackService service;
+    private final FeedbackStatisticsService statisticsService;
 
     @PostMapping
     public ResponseEntity<Integer> saveFeedback(
@@ -32,4 +33,11 @@ public class FeedbackController {
     ) {
         return ResponseEntity.ok(service.findAllFeedbacksByBook(bookId, page, size, connectedUser));
     }
+
+    @GetMapping("/book/{book-id}/statistics")
+    public ResponseEntity<FeedbackStatisticsResponse> findFeedbackStatisticsByBook(
+            @PathVariable("book-id") Integer bookId
+    ) {
+        return ResponseEntity.ok(statisticsService.findByBookId(bookId));
+    }
 }
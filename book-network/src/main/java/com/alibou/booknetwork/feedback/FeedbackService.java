@@ -4,7 +4,7 @@ import com.alibou.booknetwork.book.Book;
 import com.alibou.booknetwork.book.BookRepository;
 import com.alibou.booknetwork.common.PageResponse;
 import com.alibou.booknetwork.exception.OperationNotPermittedException;
-import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.security.CurrentUser;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -24,28 +24,35 @@ public class FeedbackService {
     private final FeedBackRepository feedBackRepository;
     private final BookRepository bookRepository;
     private final FeedbackMapper feedbackMapper;
+    private final FeedbackStatisticsService statisticsService;
 
+    @Transactional
     public Integer save(FeedbackRequest request, Authentication connectedUser) {
         Book book = bookRepository.findById(request.bookId())
                 .orElseThrow(() -> new EntityNotFoundException("No book found with ID:: " + request.bookId()));
         if (book.isArchived() || !book.isShareable()) {
             throw new OperationNotPermittedException("You cannot give a feedback for and archived or not shareable book");
         }
-        User user = ((User) connectedUser.getPrincipal());
-        if (Objects.equals(book.getOwner().getId(), user.getId())) {
+        Integer userId = CurrentUser.id(connectedUser);
+        if (Objects.equals(book.getOwner().getId(), userId)) {
             throw new OperationNotPermittedException("You cannot give feedback to your own book");
         }
         Feedback feedback = feedbackMapper.toFeedback(request);
-        return feedBackRepository.save(feedback).getId();
+        Integer feedbackId = feedBackRepository.saveAndFlush(feedback).getId(); // 통계 재계산 SQL이 이 피드백을 읽을 수 있도록 flush
+        if (feedback.getNote() != null) {
+            bookRepository.addRating(book.getId(), feedback.getNote());
+            statisticsService.record(book.getId(), feedback.getNote());
+        }
+        return feedbackId;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public PageResponse<FeedbackResponse> findAllFeedbacksByBook(Integer bookId, int page, int size, Authentication connectedUser) {
         Pageable pageable = PageRequest.of(page, size);
-        User user = ((User) connectedUser.getPrincipal());
+        Integer userId = CurrentUser.id(connectedUser);
         Page<Feedback> feedbacks = feedBackRepository.findAllByBookId(bookId, pageable);
         List<FeedbackResponse> feedbackResponses = feedbacks.stream()
-                .map(f -> feedbackMapper.toFeedbackResponse(f, user.getId()))
+                .map(f -> feedbackMapper.toFeedbackResponse(f, userId))
                 .toList();
         return new PageResponse<>(
                 feedbackResponses,
@@ -0,0 +1,48 @@
+package com.alibou.booknetwork.feedback;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 도서별 피드백 통계
+ *
+ * 도서당 한 행으로 별점(1~5, 평점을 반올림)별 개수, 평점 합계/개수, 최근 평점 지수 이동 평균을 보관합니다.
+ * 피드백 저장 시 FeedbackStatisticsRepository.addNote로 증가시키고, 행이 없는 도서는 피드백 저장이나 백필 작업에서 feedback 테이블로 한 번 다시 계산합니다.
+ * 조회는 기본 키로 이 행만 읽습니다.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "feedback_statistics")
+public class FeedbackStatistics {
+
+    @Id
+    @Column(name = "book_id")
+    private Integer bookId;
+
+    private long oneStar;
+    private long twoStars;
+    private long threeStars;
+    private long fourStars;
+    private long fiveStars;
+    private long noteCount;
+    private double noteSum;
+    private double recentAverage; // 피드백마다 recent-weight만큼 새 평점 쪽으로 이동하는 지수 이동 평균
+
+    /**
+     * 평점을 반올림하여 1~5 별점으로 변환합니다. (재계산 SQL의 구간 기준과 같음)
+     */
+    public static int starOf(double note) {
+        return (int) Math.min(5, Math.max(1, Math.round(note)));
+    }
+}
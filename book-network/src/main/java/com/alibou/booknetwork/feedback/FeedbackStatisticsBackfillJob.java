@@ -0,0 +1,57 @@
+package com.alibou.booknetwork.feedback;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 피드백 통계 백필 작업
+ *
+ * 통계 행이 없지만 피드백이 있는 도서(통계 도입 이전에 피드백이 작성된 도서)의 통계를 batch-size개씩 미리 계산합니다.
+ * 조회는 통계를 계산하지 않으므로(행이 없으면 빈 통계) 이 작업이나 해당 도서의 다음 피드백 저장 전까지는 이전 피드백이 통계에 보이지 않습니다.
+ * 도서마다 별도 트랜잭션으로 계산하므로 긴 트랜잭션이 생기지 않습니다.
+ */
+@Slf4j
+@Component
+public class FeedbackStatisticsBackfillJob {
+    private final FeedbackStatisticsRepository statisticsRepository;
+    private final FeedbackStatisticsService statisticsService;
+    private final int batchSize;
+
+    public FeedbackStatisticsBackfillJob(
+            FeedbackStatisticsRepository statisticsRepository,
+            FeedbackStatisticsService statisticsService,
+            @Value("${application.feedback-statistics.backfill-batch-size:500}") int batchSize) {
+        this.statisticsRepository = statisticsRepository;
+        this.statisticsService = statisticsService;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 통계 행이 없는 도서의 통계를 모두 계산합니다.
+     *
+     * @return 계산한 도서 수
+     */
+    @Scheduled(fixedDelayString = "${application.feedback-statistics.backfill-interval-ms:3600000}",
+            initialDelayString = "${application.feedback-statistics.backfill-initial-delay-ms:60000}")
+    public int backfill() {
+        int rebuilt = 0;
+        while (true) {
+            List<Integer> bookIds = statisticsRepository.findBookIdsWithoutStatistics(batchSize);
+            for (Integer bookId : bookIds) {
+                statisticsService.rebuild(bookId);
+            }
+            rebuilt += bookIds.size();
+            if (bookIds.size() < batchSize) {
+                break;
+            }
+        }
+        if (rebuilt > 0) {
+            log.info("Built feedback statistics for {} books", rebuilt);
+        }
+        return rebuilt;
+    }
+}
@@ -0,0 +1,75 @@
+package com.alibou.booknetwork.feedback;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FeedbackStatisticsRepository extends JpaRepository<FeedbackStatistics, Integer> {
+
+    // 행 잠금 하나로 원자적으로 증가시키므로 동시 피드백이 유실되지 않음. 행이 없으면 0을 반환
+    @Modifying
+    @Query("""
+            UPDATE FeedbackStatistics statistics
+            SET statistics.oneStar = statistics.oneStar + CASE WHEN :star = 1 THEN 1 ELSE 0 END,
+                statistics.twoStars = statistics.twoStars + CASE WHEN :star = 2 THEN 1 ELSE 0 END,
+                statistics.threeStars = statistics.threeStars + CASE WHEN :star = 3 THEN 1 ELSE 0 END,
+                statistics.fourStars = statistics.fourStars + CASE WHEN :star = 4 THEN 1 ELSE 0 END,
+                statistics.fiveStars = statistics.fiveStars + CASE WHEN :star = 5 THEN 1 ELSE 0 END,
+                statistics.recentAverage = CASE WHEN statistics.noteCount = 0 THEN :note
+                    ELSE statistics.recentAverage + :recentWeight * (:note - statistics.recentAverage) END,
+                statistics.noteCount = statistics.noteCount + 1,
+                statistics.noteSum = statistics.noteSum + :note
+            WHERE statistics.bookId = :bookId
+            """)
+    int addNote(
+            @Param("bookId") Integer bookId,
+            @Param("star") int star,
+            @Param("note") double note,
+            @Param("recentWeight") double recentWeight
+    );
+
+    // feedback 테이블에서 도서 하나의 통계를 계산해 삽입 (피드백이 없어도 0으로 삽입)
+    // 최근 평균은 최신 recentWindow개 평점의 평균으로 시작. 이미 행이 있으면 삽입하지 않고 0을 반환
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "feedback_statistics"))
+    @Query(value = """
+            INSERT INTO feedback_statistics
+                (book_id, one_star, two_stars, three_stars, four_stars, five_stars, note_count, note_sum, recent_average)
+            SELECT :bookId,
+                   COALESCE(SUM(CASE WHEN note < 1.5 THEN 1 ELSE 0 END), 0),
+                   COALESCE(SUM(CASE WHEN note >= 1.5 AND note < 2.5 THEN 1 ELSE 0 END), 0),
+                   COALESCE(SUM(CASE WHEN note >= 2.5 AND note < 3.5 THEN 1 ELSE 0 END), 0),
+                   COALESCE(SUM(CASE WHEN note >= 3.5 AND note < 4.5 THEN 1 ELSE 0 END), 0),
+                   COALESCE(SUM(CASE WHEN note >= 4.5 THEN 1 ELSE 0 END), 0),
+                   COUNT(note),
+                   COALESCE(SUM(note), 0),
+                   COALESCE((SELECT AVG(recent.note)
+                             FROM (SELECT note
+                                   FROM feedback
+                                   WHERE book_id = :bookId
+                                   AND note IS NOT NULL
+                                   ORDER BY created_date DESC, id DESC
+                                   LIMIT :recentWindow) recent), 0)
+            FROM feedback
+            WHERE book_id = :bookId
+            AND note IS NOT NULL
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int rebuild(@Param("bookId") Integer bookId, @Param("recentWindow") int recentWindow);
+
+    // 통계 행이 없는 도서 중 피드백이 있는 도서 (통계 도입 이전 피드백 백필용)
+    @Query(value = """
+            SELECT DISTINCT feedback.book_id
+            FROM feedback
+            WHERE feedback.note IS NOT NULL
+            AND NOT EXISTS (SELECT 1 FROM feedback_statistics statistics WHERE statistics.book_id = feedback.book_id)
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Integer> findBookIdsWithoutStatistics(@Param("limit") int limit);
+}
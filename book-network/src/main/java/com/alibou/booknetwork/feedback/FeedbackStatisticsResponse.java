@@ -0,0 +1,24 @@
+package com.alibou.booknetwork.feedback;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FeedbackStatisticsResponse {
+
+    private Integer bookId;
+    private long count;
+    private double average;
+    private double recentAverage; // 최근 피드백에 가중치를 둔 평균
+    private double trend; // recentAverage - average (양수면 최근 평가가 더 좋음)
+    private Map<Integer, Long> distribution; // 별점(1~5) → 피드백 수
+}
@@ -0,0 +1,115 @@
+package com.alibou.booknetwork.feedback;
+
+import com.alibou.booknetwork.book.BookRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 도서별 피드백 통계 서비스
+ *
+ * 통계 행은 피드백 저장과 같은 트랜잭션에서 증가시키며, 행이 없는 도서(통계 도입 이전 피드백만 있는 도서)는
+ * 다음 피드백 저장 시나 FeedbackStatisticsBackfillJob에서 feedback 테이블로 한 번 다시 계산합니다.
+ * 조회는 쓰지 않으므로 읽기 전용 트랜잭션(복제본)에서 처리되고, 행이 없으면 빈 통계를 반환합니다.
+ * 최근 평균은 피드백마다 recent-weight만큼 새 평점 쪽으로 이동하고,
+ * 다시 계산할 때는 같은 가중치의 이동 평균과 비슷한 최신 (2 / recent-weight - 1)개 평점의 평균으로 시작합니다.
+ */
+@Service
+public class FeedbackStatisticsService {
+    private final FeedbackStatisticsRepository statisticsRepository;
+    private final BookRepository bookRepository;
+    private final double recentWeight;
+    private final int recentWindow;
+
+    public FeedbackStatisticsService(
+            FeedbackStatisticsRepository statisticsRepository,
+            BookRepository bookRepository,
+            @Value("${application.feedback-statistics.recent-weight:0.1}") double recentWeight) {
+        this.statisticsRepository = statisticsRepository;
+        this.bookRepository = bookRepository;
+        this.recentWeight = Math.min(1.0, Math.max(0.01, recentWeight));
+        this.recentWindow = (int) Math.round(2 / this.recentWeight - 1);
+    }
+
+    /**
+     * 저장된 피드백의 평점을 도서 통계에 반영합니다. 피드백은 이미 flush되어 있어야 합니다.
+     *
+     * @param bookId 도서 ID
+     * @param note 평점
+     */
+    @Transactional
+    public void record(Integer bookId, double note) {
+        if (statisticsRepository.addNote(bookId, FeedbackStatistics.starOf(note), note, recentWeight) > 0) {
+            return;
+        }
+        // 다시 계산한 행에는 방금 저장한 피드백이 포함됨
+        // 다른 트랜잭션이 먼저 행을 만들었다면(삽입 0건) 그 행에 이 피드백을 더함
+        if (statisticsRepository.rebuild(bookId, recentWindow) == 0) {
+            statisticsRepository.addNote(bookId, FeedbackStatistics.starOf(note), note, recentWeight);
+        }
+    }
+
+    /**
+     * 도서의 피드백 통계를 조회합니다. 통계 행이 있으면 기본 키 조회 한 번으로 처리됩니다.
+     * 행이 없으면 백필 전이거나 피드백이 없는 도서이므로 빈 통계를 반환합니다.
+     *
+     * @param bookId 도서 ID
+     * @return 별점 분포, 평균, 최근 평균과 추세
+     * @throws EntityNotFoundException 통계 행이 없고 도서도 존재하지 않을 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public FeedbackStatisticsResponse findByBookId(Integer bookId) {
+        FeedbackStatistics statistics = statisticsRepository.findById(bookId)
+                .orElseGet(() -> empty(bookId));
+        return toResponse(statistics);
+    }
+
+    /**
+     * 통계 행이 없는 도서 하나의 통계를 feedback 테이블에서 계산해 저장합니다.
+     *
+     * @param bookId 도서 ID
+     * @return 저장된 통계
+     */
+    @Transactional
+    public FeedbackStatistics rebuild(Integer bookId) {
+        if (!bookRepository.existsById(bookId)) {
+            throw new EntityNotFoundException("No book found with ID:: " + bookId);
+        }
+        statisticsRepository.rebuild(bookId, recentWindow);
+        return statisticsRepository.findById(bookId).orElseThrow();
+    }
+
+    private FeedbackStatistics empty(Integer bookId) {
+        if (!bookRepository.existsById(bookId)) {
+            throw new EntityNotFoundException("No book found with ID:: " + bookId);
+        }
+        return FeedbackStatistics.builder().bookId(bookId).build();
+    }
+
+    private static FeedbackStatisticsResponse toResponse(FeedbackStatistics statistics) {
+        double average = statistics.getNoteCount() == 0 ? 0.0 : statistics.getNoteSum() / statistics.getNoteCount();
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        distribution.put(1, statistics.getOneStar());
+        distribution.put(2, statistics.getTwoStars());
+        distribution.put(3, statistics.getThreeStars());
+        distribution.put(4, statistics.getFourStars());
+        distribution.put(5, statistics.getFiveStars());
+        return FeedbackStatisticsResponse.builder()
+                .bookId(statistics.getBookId())
+                .count(statistics.getNoteCount())
+                .average(round(average))
+                .recentAverage(round(statistics.getRecentAverage()))
+                .trend(round(statistics.getRecentAverage() - average))
+                .distribution(distribution)
+                .build();
+    }
+
+    // Book.rateOf와 같이 소수점 첫째 자리까지 반올림
+    private static double round(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
@@ -0,0 +1,120 @@
+package com.alibou.booknetwork.file;
+
+import com.alibou.booknetwork.book.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * 도서 표지 썸네일 생성 서비스
+ *
+ * 업로드된 원본 표지를 백그라운드에서 한 번만 디코딩하여 CoverVariant별 크기로 축소 저장합니다.
+ * 작업은 크기가 제한된 coverThumbnailExecutor 스레드 풀에서 실행되며,
+ * 완료되면 Book 엔티티에 준비된 크기를 기록합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CoverThumbnailService {
+    private final BookRepository bookRepository;
+
+    /**
+     * 표지 썸네일을 생성합니다.
+     *
+     * 원본이 클 경우 가장 큰 썸네일 너비 이상이 되도록 서브샘플링하여 디코딩하므로
+     * 50MB 원본이라도 전체 해상도 비트맵을 메모리에 올리지 않습니다.
+     *
+     * @param bookId 도서 ID
+     * @param bookCover 원본 표지 경로 (그 사이 새 표지가 업로드되었다면 결과는 기록되지 않습니다)
+     */
+    @Async("coverThumbnailExecutor")
+    public void generateThumbnails(Integer bookId, String bookCover) {
+        try {
+            BufferedImage source = decode(Path.of(bookCover));
+            if (source == null) {
+                log.warn("Unsupported image format for cover {}", bookCover);
+                return;
+            }
+            for (CoverVariant variant : CoverVariant.values()) {
+                if (variant != CoverVariant.ORIGINAL) {
+                    write(scale(source, variant.getMaxWidth()), Path.of(variant.resolvePath(bookCover)));
+                }
+            }
+            bookRepository.markCoverVariantsReady(bookId, bookCover);
+        } catch (IOException e) {
+            log.error("Cover thumbnails were not generated for book {}", bookId, e);
+        }
+    }
+
+    private BufferedImage decode(Path originalPath) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(originalPath.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int largestWidth = Arrays.stream(CoverVariant.values())
+                        .mapToInt(CoverVariant::getMaxWidth)
+                        .max()
+                        .orElse(0);
+                // 디코딩 결과가 가장 큰 썸네일보다 작아지지 않는 범위에서 픽셀을 건너뛰며 읽음
+                int step = Math.max(1, reader.getWidth(0) / Math.max(1, largestWidth));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage source, int maxWidth) {
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        // JPEG는 알파 채널이 없으므로 흰 배경 위에 그림
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void write(BufferedImage image, Path targetPath) throws IOException {
+        // 임시 파일에 쓴 뒤 이동하여 읽는 쪽이 쓰다 만 파일을 보지 않도록 함
+        Path tempPath = Files.createTempFile(targetPath.getParent(), "thumb", ".tmp");
+        try {
+            ImageIO.write(image, "jpg", tempPath.toFile());
+            Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+}
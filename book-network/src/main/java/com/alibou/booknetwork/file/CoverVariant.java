@@ -0,0 +1,59 @@
+package com.alibou.booknetwork.file;
+
+import lombok.Getter;
+
+/**
+ * 도서 표지 파생 크기
+ *
+ * 원본 업로드 파일 옆에 "{원본이름}_{suffix}.jpg" 형태로 저장됩니다.
+ * 목록 화면은 LIST, 상세 화면은 DETAIL을 사용하고, 아직 생성되지 않았으면 더 큰 크기로 대체됩니다.
+ */
+@Getter
+public enum CoverVariant {
+    LIST(240, "list"),
+    DETAIL(720, "detail"),
+    ORIGINAL(0, null)
+    ;
+
+    private final int maxWidth; // 0은 원본 크기를 의미
+    private final String suffix;
+
+    CoverVariant(int maxWidth, String suffix) {
+        this.maxWidth = maxWidth;
+        this.suffix = suffix;
+    }
+
+    /**
+     * 요청한 크기 이상이면서 이미 생성된 가장 작은 표지 크기를 반환합니다.
+     *
+     * @param wanted 화면에 필요한 크기
+     * @param listReady LIST 썸네일 생성 여부
+     * @param detailReady DETAIL 썸네일 생성 여부
+     * @return 제공할 크기 (썸네일이 없으면 ORIGINAL)
+     */
+    public static CoverVariant smallestReady(CoverVariant wanted, boolean listReady, boolean detailReady) {
+        if (wanted == LIST && listReady) {
+            return LIST;
+        }
+        if (wanted != ORIGINAL && detailReady) {
+            return DETAIL;
+        }
+        return ORIGINAL;
+    }
+
+    /**
+     * 원본 파일 경로로부터 이 크기의 파일 경로를 계산합니다.
+     *
+     * @param originalPath 원본 표지 파일 경로
+     * @return 파생 파일 경로 (ORIGINAL이면 원본 경로 그대로)
+     */
+    public String resolvePath(String originalPath) {
+        if (this == ORIGINAL) {
+            return originalPath;
+        }
+        int lastDotIndex = originalPath.lastIndexOf('.');
+        int lastSeparatorIndex = Math.max(originalPath.lastIndexOf('/'), originalPath.lastIndexOf('\\'));
+        String basePath = lastDotIndex > lastSeparatorIndex ? originalPath.substring(0, lastDotIndex) : originalPath;
+        return basePath + "_" + suffix + ".jpg";
+    }
+}
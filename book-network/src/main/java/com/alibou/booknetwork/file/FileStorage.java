@@ -0,0 +1,64 @@
+package com.alibou.booknetwork.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 콘텐츠 주소 기반 파일 저장소 추상화
+ *
+ * 업로드 내용을 스트리밍하면서 SHA-256 해시를 계산해 임시 위치에 적재(stage)한 뒤,
+ * 해시로 결정되는 최종 위치로 확정(commit)합니다. 같은 내용은 항상 같은 위치에 저장되므로
+ * 파일명 충돌이 없고 중복 저장도 되지 않습니다.
+ *
+ * 참조 카운트는 FileStorageService가 관리하며, 구현체는 바이트 저장만 담당합니다.
+ * 로컬 파일 시스템 외의 저장소(S3 등)도 이 인터페이스를 구현하여 교체할 수 있습니다.
+ */
+public interface FileStorage {
+
+    /**
+     * 내용을 임시 위치에 스트리밍하여 저장하고 SHA-256 해시를 계산합니다.
+     * 메모리 사용량은 파일 크기와 무관하게 일정합니다.
+     *
+     * @param content 업로드 내용 스트림
+     * @param extension 저장할 파일 확장자 (빈 문자열 가능)
+     * @return 임시 저장 결과
+     * @throws IOException 저장 실패 시
+     */
+    StagedFile stage(InputStream content, String extension) throws IOException;
+
+    /**
+     * 임시 파일을 해시 기반 최종 위치로 원자적으로 이동합니다.
+     * 같은 내용이 이미 있으면 임시 파일만 삭제합니다.
+     *
+     * @param stagedFile stage 결과
+     * @return 최종 저장 위치
+     * @throws IOException 이동 실패 시
+     */
+    String commit(StagedFile stagedFile) throws IOException;
+
+    /**
+     * 확정하지 않을 임시 파일을 삭제합니다.
+     *
+     * @param stagedFile stage 결과
+     */
+    void discard(StagedFile stagedFile);
+
+    /**
+     * 최종 위치의 파일을 삭제합니다.
+     *
+     * @param location commit이 반환한 위치
+     * @throws IOException 삭제 실패 시
+     */
+    void delete(String location) throws IOException;
+
+    /**
+     * 임시 저장 결과
+     *
+     * @param hash 내용의 SHA-256 해시 (16진수 소문자)
+     * @param size 바이트 크기
+     * @param extension 파일 확장자
+     * @param stagingLocation 구현체별 임시 위치
+     */
+    record StagedFile(String hash, long size, String extension, String stagingLocation) {
+    }
+}
@@ -1,113 +1,156 @@
 package com.alibou.booknetwork.file;
 
-import com.alibou.booknetwork.book.Book;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-
-import static java.io.File.separator;
-import static java.lang.System.currentTimeMillis;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 파일 저장 서비스
  * 
- * 이 서비스는 클라이언트로부터 업로드된 파일을 서버의 파일 시스템에 저장하는 기능을 제공합니다.
- * 주로 사용자 관련 파일(예: 프로필 사진)을 저장하는 데 사용됩니다.
+ * 이 서비스는 클라이언트로부터 업로드된 파일을 FileStorage 구현체(기본: 로컬 파일 시스템)에 저장합니다.
+ * 주로 도서 표지 이미지를 저장하는 데 사용됩니다.
  * 
  * 주요 기능:
- * - 파일 업로드 및 저장
- * - 사용자별 디렉토리 구조 자동 생성
- * - 파일명 충돌 방지를 위한 타임스탬프 기반 이름 생성
+ * - 업로드 내용을 스트리밍하여 저장 (파일 크기와 무관하게 일정한 메모리 사용)
+ * - SHA-256 콘텐츠 주소 기반 파일명으로 충돌 없이 저장
+ * - 참조 카운트를 통한 동일 파일 중복 제거 및 미사용 파일 삭제
  */
 @Service
 @Slf4j // Lombok이 제공하는 로깅 기능을 사용하기 위한 어노테이션
 @RequiredArgsConstructor // 필수 필드를 포함하는 생성자를 자동으로 생성
 public class FileStorageService {
-    @Value("${application.file.upload.photos-output-path}")
-    private String fileUploadPath; // 설정 파일에서 정의된 파일 업로드 기본 경로
+    private static final int LOCK_STRIPES = 64;
+
+    private final FileStorage fileStorage;
+    private final StoredFileRepository storedFileRepository;
+
+    // 같은 해시에 대한 참조 증가와 삭제가 엇갈리지 않도록 해시별로 잠그는 락 (단일 인스턴스 기준)
+    // 락을 잡은 채 DB/파일 I/O를 하므로 synchronized 대신 ReentrantLock 사용 (가상 스레드가 캐리어 스레드를 고정하지 않음)
+    private final ReentrantLock[] locks = createLocks();
 
     /**
-     * 사용자 관련 파일을 저장합니다.
+     * 업로드된 파일을 저장합니다.
+     * 
+     * 이 메소드는 다음 단계로 파일을 저장합니다:
+     * 1. 업로드 스트림을 임시 파일로 복사하면서 SHA-256 해시 계산
+     * 2. 같은 해시의 StoredFile 행이 있으면 참조 수를 늘리고 그 행의 위치를 반환 (임시 파일 삭제)
+     * 3. 없으면 임시 파일을 해시 기반 위치로 원자적 이동 후 StoredFile 행 생성
      * 
-     * 이 메소드는 사용자 ID를 기반으로 적절한 디렉토리 구조를 생성하고,
-     * 업로드된 파일을 해당 디렉토리에 저장합니다.
+     * 확장자만 다른 같은 내용의 업로드도 처음 저장된 위치를 공유하므로, release가 항상 행을 찾을 수 있습니다.
      * 
      * @param sourceFile 업로드된 파일 객체
-     * @param userId 파일을 소유한 사용자의 ID
-     * @return 저장된 파일의 경로 (성공 시) 또는 null (실패 시)
+     * @return 저장된 파일의 위치 (성공 시) 또는 null (실패 시)
      */
-    public String saveFile(@NonNull MultipartFile sourceFile,
-                           @NonNull Integer userId) { // 반환 값은 저장된 파일의 경로입니다
+    public String saveFile(@NonNull MultipartFile sourceFile) {
+        final String fileExtension = getFileExtension(sourceFile.getOriginalFilename());
+        FileStorage.StagedFile stagedFile;
+        try (InputStream content = sourceFile.getInputStream()) {
+            stagedFile = fileStorage.stage(content, fileExtension);
+        } catch (IOException e) {
+            log.error("File was not saved", e);
+            return null;
+        }
 
-        // File.separator를 사용하여 플랫폼 독립적인 경로 구성 (윈도우, 리눅스 등)
-        final String fileUploadSubPath = "users" + separator + userId;
-        return uploadFile(sourceFile, fileUploadSubPath);
+        ReentrantLock lock = lockFor(stagedFile.hash());
+        lock.lock();
+        try {
+            Optional<StoredFile> existing = storedFileRepository.findById(stagedFile.hash());
+            if (existing.isPresent() && storedFileRepository.incrementReferenceCount(stagedFile.hash()) > 0) {
+                fileStorage.discard(stagedFile);
+                log.info("File already stored at {}", existing.get().getLocation());
+                return existing.get().getLocation();
+            }
+            String location = addReference(stagedFile, fileStorage.commit(stagedFile));
+            log.info("File saved to {}", location);
+            return location;
+        } catch (IOException e) {
+            fileStorage.discard(stagedFile);
+            log.error("File was not saved", e);
+        } finally {
+            lock.unlock();
+        }
+        return null; // 예외 발생 시 null 반환
     }
 
     /**
-     * 파일을 지정된 하위 경로에 업로드합니다.
+     * 파일에 대한 참조 하나를 해제합니다.
+     * 참조 수가 0이 되면 파일과 파생 썸네일을 삭제합니다.
+     * StoredFile로 관리되지 않는 이전 방식의 파일은 삭제하지 않습니다.
      * 
-     * 이 private 메소드는 실제 파일 저장 로직을 처리합니다:
-     * 1. 대상 디렉토리가 존재하지 않으면 생성
-     * 2. 파일 확장자 추출
-     * 3. 고유한 파일명 생성 (현재 시간 밀리초 + 확장자)
-     * 4. 파일 저장 및 결과 반환
-     * 
-     * @param sourceFile 업로드된 파일 객체
-     * @param fileUploadSubPath 파일을 저장할 하위 경로
-     * @return 저장된 파일의 전체 경로 또는 실패 시 null
+     * @param location saveFile이 반환한 파일 위치
      */
-    private String uploadFile(@NonNull MultipartFile sourceFile,
-                              @NonNull String fileUploadSubPath) {
-        // 최종 업로드 경로 구성 (기본 경로 + 하위 경로)
-        final String finalUploadPath = fileUploadPath + separator + fileUploadSubPath;
-        
-        // 대상 폴더 객체 생성
-        File targetFoler = new File(finalUploadPath);
-        
-        // 폴더가 존재하지 않으면 생성
-        if (!targetFoler.exists()) {
-            boolean folderCreated = targetFoler.mkdirs(); // mkdirs는 경로 상의 모든 하위 폴더를 함께 생성합니다
-            if (!folderCreated) {
-                log.warn("Failed to create the target folder");
-                return null; // 폴더 생성 실패 시 null 반환
+    public void release(String location) {
+        storedFileRepository.findByLocation(location).ifPresent(storedFile -> {
+            ReentrantLock lock = lockFor(storedFile.getHash());
+            lock.lock();
+            try {
+                storedFileRepository.decrementReferenceCount(storedFile.getHash());
+                if (storedFileRepository.deleteIfUnreferenced(storedFile.getHash()) == 0) {
+                    return;
+                }
+                for (CoverVariant variant : CoverVariant.values()) {
+                    try {
+                        fileStorage.delete(variant.resolvePath(location));
+                    } catch (IOException e) {
+                        log.warn("Failed to delete unreferenced file {}", variant.resolvePath(location), e);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    private String addReference(FileStorage.StagedFile stagedFile, String location) throws IOException {
+        try {
+            storedFileRepository.saveAndFlush(StoredFile.builder()
+                    .hash(stagedFile.hash())
+                    .location(location)
+                    .size(stagedFile.size())
+                    .referenceCount(1)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            return location;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 행을 만든 경우: 그 행의 위치를 공유하고, 확장자가 달라 따로 생긴 파일은 삭제
+            storedFileRepository.incrementReferenceCount(stagedFile.hash());
+            String storedLocation = storedFileRepository.findById(stagedFile.hash())
+                    .map(StoredFile::getLocation)
+                    .orElseThrow(() -> new IOException("Stored file row disappeared for " + stagedFile.hash()));
+            if (!storedLocation.equals(location)) {
+                fileStorage.delete(location);
             }
+            return storedLocation;
         }
+    }
 
-        // 파일 확장자 추출
-        final String fileExtension = getFileExtension(sourceFile.getOriginalFilename());
-        
-        // 타임스탬프를 이용한 고유 파일명 생성 (예: ./upload/users/1/1634567890123.jpg)
-        String targetFilePath = finalUploadPath + separator + currentTimeMillis() + "." + fileExtension;
+    private ReentrantLock lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
 
-        // 파일 저장을 위한 Path 객체 생성
-        Path targetPath = Paths.get(targetFilePath);
-        
-        try {
-            // 파일 바이트를 대상 경로에 쓰기
-            Files.write(targetPath, sourceFile.getBytes());
-            log.info("File saved to " + targetFilePath);
-            return targetFilePath; // 성공 시 파일 경로 반환
-        } catch (IOException e) {
-            log.error("File was not saved", e);
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
         }
-        return null; // 예외 발생 시 null 반환
+        return locks;
     }
 
     /**
      * 파일 이름에서 확장자를 추출합니다.
+     * 경로 조작을 막기 위해 영문자와 숫자로 된 확장자만 허용합니다.
      * 
      * @param fileName 파일 이름
-     * @return 소문자로 변환된 파일 확장자 또는 확장자가 없는 경우 빈 문자열
+     * @return 소문자로 변환된 파일 확장자 또는 확장자가 없거나 허용되지 않는 경우 빈 문자열
      */
     private String getFileExtension(String fileName) {
         if (fileName == null || fileName.isEmpty()) {
@@ -122,10 +165,12 @@ public class FileStorageService {
         }
 
         // 마지막 점 이후의 문자열을 소문자로 반환
-        return fileName.substring(lastDotIndex + 1).toLowerCase();
+        String extension = fileName.substring(lastDotIndex + 1).toLowerCase();
+        return extension.matches("[a-z0-9]{1,10}") ? extension : "";
     }
 }
 
+
 /**
  * 고급 구현 및 확장 방법 (시니어 개발자용)
  * 
@@ -149,8 +194,8 @@ public class FileStorageService {
  *    }
  * 
  * 2. 클라우드 스토리지 통합:
- *    - AWS S3, Google Cloud Storage, Azure Blob Storage 등 통합
- *    - 멀티 클라우드 전략을 위한 스토리지 추상화 계층 구현
+ *    - FileStorage 인터페이스를 구현하여 AWS S3, Google Cloud Storage, Azure Blob Storage 등으로 교체
+ *    - 다중 인스턴스 환경에서는 해시별 in-process 락 대신 DB 행 잠금(SELECT ... FOR UPDATE) 사용
  *    
  * 3. 이미지 처리 기능:
  *    - 업로드 시 이미지 리사이징/크롭
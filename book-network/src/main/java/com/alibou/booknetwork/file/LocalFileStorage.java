@@ -0,0 +1,99 @@
+package com.alibou.booknetwork.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 로컬 파일 시스템 기반 FileStorage 구현체
+ *
+ * 디렉토리 구조:
+ * - {photos-output-path}/tmp : 업로드 중인 임시 파일
+ * - {photos-output-path}/objects/{해시 앞 2자리}/{해시}.{확장자} : 확정된 파일
+ *
+ * 임시 디렉토리와 최종 디렉토리가 같은 파일 시스템에 있으므로 이동은 원자적으로 이루어집니다.
+ */
+@Slf4j
+@Component
+public class LocalFileStorage implements FileStorage {
+    private final Path tempRoot;
+    private final Path objectRoot;
+
+    public LocalFileStorage(@Value("${application.file.upload.photos-output-path}") String fileUploadPath) {
+        Path root = Path.of(fileUploadPath);
+        this.tempRoot = root.resolve("tmp");
+        this.objectRoot = root.resolve("objects");
+    }
+
+    @Override
+    public StagedFile stage(InputStream content, String extension) throws IOException {
+        Files.createDirectories(tempRoot);
+        Path tempPath = Files.createTempFile(tempRoot, "upload", ".tmp");
+        MessageDigest digest = sha256();
+        try (OutputStream out = new DigestOutputStream(Files.newOutputStream(tempPath), digest)) {
+            // 고정 크기 버퍼로 복사하므로 파일 전체를 메모리에 올리지 않음
+            long size = content.transferTo(out);
+            return new StagedFile(HexFormat.of().formatHex(digest.digest()), size, extension, tempPath.toString());
+        } catch (IOException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+    }
+
+    @Override
+    public String commit(StagedFile stagedFile) throws IOException {
+        Path tempPath = Path.of(stagedFile.stagingLocation());
+        Path targetPath = resolve(stagedFile.hash(), stagedFile.extension());
+        if (Files.exists(targetPath)) {
+            // 같은 내용이 이미 저장되어 있음
+            Files.deleteIfExists(tempPath);
+            return targetPath.toString();
+        }
+        Files.createDirectories(targetPath.getParent());
+        try {
+            Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(tempPath);
+        }
+        return targetPath.toString();
+    }
+
+    @Override
+    public void discard(StagedFile stagedFile) {
+        try {
+            Files.deleteIfExists(Path.of(stagedFile.stagingLocation()));
+        } catch (IOException e) {
+            log.warn("Failed to delete the staged file {}", stagedFile.stagingLocation(), e);
+        }
+    }
+
+    @Override
+    public void delete(String location) throws IOException {
+        Files.deleteIfExists(Path.of(location));
+    }
+
+    private Path resolve(String hash, String extension) {
+        String fileName = extension.isEmpty() ? hash : hash + "." + extension;
+        return objectRoot.resolve(hash.substring(0, 2)).resolve(fileName);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+}
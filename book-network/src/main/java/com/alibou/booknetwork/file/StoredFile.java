@@ -0,0 +1,37 @@
+package com.alibou.booknetwork.file;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콘텐츠 주소 기반으로 저장된 파일과 그 참조 수
+ *
+ * 같은 내용의 파일은 한 번만 저장되며, 이를 참조하는 도서 표지 수를 referenceCount로 관리합니다.
+ * 참조 수가 0이 되면 파일과 행이 함께 삭제됩니다.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class StoredFile {
+    @Id
+    @Column(length = 64)
+    private String hash; // SHA-256 (16진수)
+
+    @Column(unique = true, nullable = false)
+    private String location;
+
+    private long size;
+    private int referenceCount;
+    private LocalDateTime createdAt;
+}
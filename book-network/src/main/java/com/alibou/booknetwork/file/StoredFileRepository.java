@@ -0,0 +1,41 @@
+package com.alibou.booknetwork.file;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+    Optional<StoredFile> findByLocation(String location);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE StoredFile storedFile
+            SET storedFile.referenceCount = storedFile.referenceCount + 1
+            WHERE storedFile.hash = :hash
+            """)
+    int incrementReferenceCount(@Param("hash") String hash);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE StoredFile storedFile
+            SET storedFile.referenceCount = storedFile.referenceCount - 1
+            WHERE storedFile.hash = :hash
+            AND storedFile.referenceCount > 0
+            """)
+    int decrementReferenceCount(@Param("hash") String hash);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            DELETE FROM StoredFile storedFile
+            WHERE storedFile.hash = :hash
+            AND storedFile.referenceCount = 0
+            """)
+    int deleteIfUnreferenced(@Param("hash") String hash);
+}
@@ -1,9 +1,12 @@
 package com.alibou.booknetwork.handler;
 
 import com.alibou.booknetwork.exception.OperationNotPermittedException;
+import com.alibou.booknetwork.exception.PasswordHashingBusyException;
 import jakarta.mail.MessagingException;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -208,6 +211,36 @@ public class GlobalExceptionHandler {
                 );
     }
 
+    /**
+     * 비밀번호 해싱 풀 포화 예외 처리
+     * 로그인이 몰린 경우 요청 스레드가 해싱을 기다리며 쌓이지 않도록 바로 503을 반환합니다.
+     * 
+     * @param exception 발생한 PasswordHashingBusyException 객체
+     * @param request 현재 HTTP 요청 객체
+     * @return 표준화된 오류 응답
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    @ResponseStatus(SERVICE_UNAVAILABLE)
+    public ResponseEntity<ExceptionResponse> handlePasswordHashingBusyException(
+            PasswordHashingBusyException exception,
+            HttpServletRequest request) {
+        
+        log.warn("비밀번호 해싱 풀 포화: {}, 요청 URI: {}", exception.getMessage(), request.getRequestURI());
+        
+        return ResponseEntity
+                .status(SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(
+                        ExceptionResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .businessErrorCode(PASSWORD_HASHING_BUSY.getCode())
+                                .businessErrorDescription(PASSWORD_HASHING_BUSY.getDescription())
+                                .error("요청이 많아 잠시 후 다시 시도해 주세요.")
+                                .build()
+                );
+    }
+
     /**
      * 작업 권한 없음 예외 처리
      * 
@@ -238,6 +271,32 @@ public class GlobalExceptionHandler {
                 );
     }
 
+    /**
+     * 엔티티 없음 예외 처리
+     * 
+     * @param exception 발생한 EntityNotFoundException 객체
+     * @param request 현재 HTTP 요청 객체
+     * @return 표준화된 오류 응답
+     */
+    @ExceptionHandler(EntityNotFoundException.class)
+    @ResponseStatus(NOT_FOUND)
+    public ResponseEntity<ExceptionResponse> handleEntityNotFoundException(
+            EntityNotFoundException exception,
+            HttpServletRequest request) {
+        
+        log.warn("엔티티 없음 예외 발생: {}, 요청 URI: {}", exception.getMessage(), request.getRequestURI());
+        
+        return ResponseEntity
+                .status(NOT_FOUND)
+                .body(
+                        ExceptionResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .error(exception.getMessage())
+                                .build()
+                );
+    }
+
     /**
      * 요청 파라미터 누락 예외 처리
      * 
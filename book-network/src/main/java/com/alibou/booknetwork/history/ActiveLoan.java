@@ -0,0 +1,41 @@
+package com.alibou.booknetwork.history;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 대여
+ *
+ * 반납 승인 전까지 도서당 한 행만 존재합니다. 도서 ID가 기본 키이므로
+ * 동시에 두 사용자가 대여해도 데이터베이스가 하나의 INSERT만 허용합니다.
+ * 반납이 승인되면 행이 삭제되고, 전체 이력은 BookTransactionHistory(보관 후에는 BookTransactionHistoryArchive)에 남습니다.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class ActiveLoan {
+
+    @Id
+    @Column(name = "book_id")
+    private Integer bookId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "history_id", nullable = false, unique = true)
+    private Integer historyId;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+}
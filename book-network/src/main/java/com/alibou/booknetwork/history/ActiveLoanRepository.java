@@ -0,0 +1,54 @@
+package com.alibou.booknetwork.history;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ActiveLoanRepository extends JpaRepository<ActiveLoan, Integer> {
+
+    // 대여 가능 조건(공유 가능, 보관 아님, 본인 소유 아님)을 만족할 때만 삽입하는 단일 조건부 INSERT
+    // 이미 대여 중이면 기본 키(book_id) 위반으로 실패하고, 조건 불충족이면 0을 반환
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "active_loan")) // 2차 캐시에서 이 테이블만 무효화
+    @Query(value = """
+            INSERT INTO active_loan (book_id, user_id, history_id, created_date)
+            SELECT book.id, :userId, :historyId, CURRENT_TIMESTAMP
+            FROM book
+            WHERE book.id = :bookId
+            AND book.archived = false
+            AND book.shareable = true
+            AND book.owner_id <> :userId
+            """, nativeQuery = true)
+    int claim(@Param("bookId") Integer bookId, @Param("userId") Integer userId, @Param("historyId") Integer historyId);
+
+    @Modifying
+    @Query("""
+            DELETE FROM ActiveLoan loan
+            WHERE loan.bookId = :bookId
+            """)
+    int release(@Param("bookId") Integer bookId);
+
+    // active_loan 도입 이전의 반납 미승인 대여 내역을 옮겨옴 (도서별 가장 최근 내역 기준)
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "active_loan")) // 2차 캐시에서 이 테이블만 무효화
+    @Query(value = """
+            INSERT INTO active_loan (book_id, user_id, history_id, created_date)
+            SELECT history.book_id, history.user_id, history.id, history.created_date
+            FROM book_transaction_history history
+            WHERE history.return_approved = false
+            AND history.id = (
+                SELECT MAX(latest.id)
+                FROM book_transaction_history latest
+                WHERE latest.book_id = history.book_id
+                AND latest.return_approved = false
+            )
+            AND NOT EXISTS (SELECT 1 FROM active_loan loan WHERE loan.book_id = history.book_id)
+            """, nativeQuery = true)
+    int backfillFromHistory();
+}
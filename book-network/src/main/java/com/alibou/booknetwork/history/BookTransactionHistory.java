@@ -4,8 +4,10 @@ import com.alibou.booknetwork.book.Book;
 import com.alibou.booknetwork.common.BaseEntity;
 import com.alibou.booknetwork.user.User;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +20,12 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = { // 키셋 페이지네이션의 (createdDate, id) 탐색용
+        @Index(name = "idx_history_user_created_date_id", columnList = "user_id, created_date, id"),
+        @Index(name = "idx_history_book_created_date_id", columnList = "book_id, created_date, id"),
+        @Index(name = "idx_history_return_approved_id", columnList = "return_approved, id"), // 보관 작업 탐색용
+        @Index(name = "idx_history_created_date_id", columnList = "created_date, id") // CoBorrowIndexJob 탐색용
+})
 public class BookTransactionHistory extends BaseEntity {
 
     @ManyToOne
@@ -0,0 +1,60 @@
+package com.alibou.booknetwork.history;
+
+import com.alibou.booknetwork.book.Book;
+import com.alibou.booknetwork.user.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반납 승인까지 끝난 대여 내역 보관 테이블
+ *
+ * LoanHistoryArchiveJob이 book_transaction_history에서 반납 승인된 행을 같은 ID 그대로 옮겨옵니다.
+ * 대여/반납 처리는 이 테이블을 조회하지 않으며, 대여/반납 목록 조회만 두 테이블을 함께 읽습니다.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "book_transaction_history_archive", indexes = { // 목록 키셋 페이지네이션의 (createdDate, id) 탐색용
+        @Index(name = "idx_history_archive_user_created_date_id", columnList = "user_id, created_date, id"),
+        @Index(name = "idx_history_archive_book_created_date_id", columnList = "book_id, created_date, id"),
+        @Index(name = "idx_history_archive_created_date_id", columnList = "created_date, id") // CoBorrowIndexJob 탐색용
+})
+public class BookTransactionHistoryArchive {
+
+    @Id
+    private Integer id; // 원래 BookTransactionHistory의 ID
+
+    @ManyToOne
+    @JoinColumn(name = "user_id")
+    private User user;
+    @ManyToOne
+    @JoinColumn(name = "book_id")
+    private Book book;
+    private boolean returned;
+    private boolean returnApproved;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+    private LocalDateTime lastModifiedDate;
+    @Column(nullable = false, updatable = false)
+    private Integer createdBy;
+    private Integer lastModifiedBy;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedDate;
+}
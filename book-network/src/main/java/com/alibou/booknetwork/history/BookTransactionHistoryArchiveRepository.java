@@ -0,0 +1,6 @@
+package com.alibou.booknetwork.history;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BookTransactionHistoryArchiveRepository extends JpaRepository<BookTransactionHistoryArchive, Integer> {
+}
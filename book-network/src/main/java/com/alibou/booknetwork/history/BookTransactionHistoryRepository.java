@@ -1,64 +1,200 @@
 package com.alibou.booknetwork.history;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
+/**
+ * 대여 내역 저장소
+ *
+ * 대여/반납 처리는 active_loan(도서 ID 기본 키)과 이 테이블의 기본 키 조회만 사용합니다.
+ * 반납 승인된 내역은 LoanHistoryArchiveJob이 book_transaction_history_archive로 옮기므로
+ * 이 테이블에는 진행 중인 대여와 아직 옮기지 않은 내역만 남습니다.
+ * 목록 조회는 두 테이블을 UNION ALL로 함께 읽습니다.
+ */
 public interface BookTransactionHistoryRepository extends JpaRepository<BookTransactionHistory, Integer> {
-    @Query("""
-            SELECT
-            (COUNT (*) > 0) AS isBorrowed
-            FROM BookTransactionHistory bookTransactionHistory
-            WHERE bookTransactionHistory.user.id = :userId
-            AND bookTransactionHistory.book.id = :bookId
-            AND bookTransactionHistory.returnApproved = false
-            """)
-    boolean isAlreadyBorrowedByUser(@Param("bookId") Integer bookId, @Param("userId") Integer userId);
 
-    @Query("""
-            SELECT
-            (COUNT (*) > 0) AS isBorrowed
-            FROM BookTransactionHistory bookTransactionHistory
-            WHERE bookTransactionHistory.book.id = :bookId
-            AND bookTransactionHistory.returnApproved = false
-            """)
-    boolean isAlreadyBorrowed(@Param("bookId") Integer bookId);
+    @Query(value = """
+            SELECT loan.id AS id, loan.created_date AS createdDate,
+                   loan.returned AS returned, loan.return_approved AS returnApproved,
+                   book.id AS bookId, book.title AS title, book.author_name AS authorName, book.isbn AS isbn,
+                   book.rating_sum AS ratingSum, book.rating_count AS ratingCount
+            FROM (
+                SELECT id, book_id, created_date, returned, return_approved
+                FROM book_transaction_history
+                WHERE user_id = :userId
+                UNION ALL
+                SELECT id, book_id, created_date, returned, return_approved
+                FROM book_transaction_history_archive
+                WHERE user_id = :userId
+            ) loan
+            JOIN book ON book.id = loan.book_id
+            ORDER BY loan.created_date DESC, loan.id DESC
+            """,
+            countQuery = """
+            SELECT (SELECT COUNT(*) FROM book_transaction_history WHERE user_id = :userId)
+                 + (SELECT COUNT(*) FROM book_transaction_history_archive WHERE user_id = :userId)
+            """,
+            nativeQuery = true)
+    Page<LoanHistoryEntry> findAllBorrowedBooks(Pageable pageable, @Param("userId") Integer userId);
 
-    @Query("""
-            SELECT transaction
-            FROM BookTransactionHistory  transaction
-            WHERE transaction.user.id = :userId
-            AND transaction.book.id = :bookId
-            AND transaction.returned = false
-            AND transaction.returnApproved = false
-            """)
-    Optional<BookTransactionHistory> findByBookIdAndUserId(@Param("bookId") Integer bookId, @Param("userId") Integer userId);
+    @Query(value = """
+            SELECT loan.id AS id, loan.created_date AS createdDate,
+                   loan.returned AS returned, loan.return_approved AS returnApproved,
+                   book.id AS bookId, book.title AS title, book.author_name AS authorName, book.isbn AS isbn,
+                   book.rating_sum AS ratingSum, book.rating_count AS ratingCount
+            FROM (
+                SELECT id, book_id, created_date, returned, return_approved
+                FROM book_transaction_history
+                UNION ALL
+                SELECT id, book_id, created_date, returned, return_approved
+                FROM book_transaction_history_archive
+            ) loan
+            JOIN book ON book.id = loan.book_id
+            WHERE book.owner_id = :userId
+            ORDER BY loan.created_date DESC, loan.id DESC
+            """,
+            countQuery = """
+            SELECT (SELECT COUNT(*) FROM book_transaction_history history JOIN book ON book.id = history.book_id
+                    WHERE book.owner_id = :userId)
+                 + (SELECT COUNT(*) FROM book_transaction_history_archive archive JOIN book ON book.id = archive.book_id
+                    WHERE book.owner_id = :userId)
+            """,
+            nativeQuery = true)
+    Page<LoanHistoryEntry> findAllReturnedBooks(Pageable pageable, @Param("userId") Integer userId);
 
-    @Query("""
-            SELECT transaction
-            FROM BookTransactionHistory  transaction
-            WHERE transaction.book.owner.id = :userId
-            AND transaction.book.id = :bookId
-            AND transaction.returned = true
-            AND transaction.returnApproved = false
-            """)
-    Optional<BookTransactionHistory> findByBookIdAndOwnerId(@Param("bookId") Integer bookId, @Param("userId") Integer userId);
+    // 키셋 페이지네이션: 두 테이블에서 각각 (createdDate, id) 커서 이후 limit개만 인덱스로 읽은 뒤 합침
+    @Query(value = """
+            SELECT loan.id AS id, loan.created_date AS createdDate,
+                   loan.returned AS returned, loan.return_approved AS returnApproved,
+                   book.id AS bookId, book.title AS title, book.author_name AS authorName, book.isbn AS isbn,
+                   book.rating_sum AS ratingSum, book.rating_count AS ratingCount
+            FROM (
+                (SELECT id, book_id, created_date, returned, return_approved
+                 FROM book_transaction_history
+                 WHERE user_id = :userId
+                 AND (created_date < :createdDate OR (created_date = :createdDate AND id < :id))
+                 ORDER BY created_date DESC, id DESC
+                 LIMIT :limit)
+                UNION ALL
+                (SELECT id, book_id, created_date, returned, return_approved
+                 FROM book_transaction_history_archive
+                 WHERE user_id = :userId
+                 AND (created_date < :createdDate OR (created_date = :createdDate AND id < :id))
+                 ORDER BY created_date DESC, id DESC
+                 LIMIT :limit)
+            ) loan
+            JOIN book ON book.id = loan.book_id
+            ORDER BY loan.created_date DESC, loan.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<LoanHistoryEntry> findBorrowedBooksAfter(
+            @Param("userId") Integer userId,
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") Integer id,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT loan.id AS id, loan.created_date AS createdDate,
+                   loan.returned AS returned, loan.return_approved AS returnApproved,
+                   book.id AS bookId, book.title AS title, book.author_name AS authorName, book.isbn AS isbn,
+                   book.rating_sum AS ratingSum, book.rating_count AS ratingCount
+            FROM (
+                (SELECT history.id, history.book_id, history.created_date, history.returned, history.return_approved
+                 FROM book_transaction_history history
+                 JOIN book owned ON owned.id = history.book_id
+                 WHERE owned.owner_id = :userId
+                 AND (history.created_date < :createdDate OR (history.created_date = :createdDate AND history.id < :id))
+                 ORDER BY history.created_date DESC, history.id DESC
+                 LIMIT :limit)
+                UNION ALL
+                (SELECT archive.id, archive.book_id, archive.created_date, archive.returned, archive.return_approved
+                 FROM book_transaction_history_archive archive
+                 JOIN book owned ON owned.id = archive.book_id
+                 WHERE owned.owner_id = :userId
+                 AND (archive.created_date < :createdDate OR (archive.created_date = :createdDate AND archive.id < :id))
+                 ORDER BY archive.created_date DESC, archive.id DESC
+                 LIMIT :limit)
+            ) loan
+            JOIN book ON book.id = loan.book_id
+            ORDER BY loan.created_date DESC, loan.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<LoanHistoryEntry> findReturnedBooksAfter(
+            @Param("userId") Integer userId,
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") Integer id,
+            @Param("limit") int limit
+    );
 
+    // 두 테이블에서 (createdDate, id) 커서 이후이면서 settledBefore 이전에 생성된 대여를 생성 순서대로 limit개 조회
+    // ID는 인스턴스별로 블록 단위 할당되어 생성 순서와 다를 수 있으므로 생성 시각을 기준으로 읽음
+    @Query(value = """
+            SELECT loan.id AS id, loan.created_date AS createdDate, loan.user_id AS userId, loan.book_id AS bookId
+            FROM (
+                (SELECT id, created_date, user_id, book_id
+                 FROM book_transaction_history
+                 WHERE (created_date > :createdDate OR (created_date = :createdDate AND id > :id))
+                 AND created_date < :settledBefore
+                 ORDER BY created_date, id
+                 LIMIT :limit)
+                UNION ALL
+                (SELECT id, created_date, user_id, book_id
+                 FROM book_transaction_history_archive
+                 WHERE (created_date > :createdDate OR (created_date = :createdDate AND id > :id))
+                 AND created_date < :settledBefore
+                 ORDER BY created_date, id
+                 LIMIT :limit)
+            ) loan
+            ORDER BY loan.created_date, loan.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<BorrowEvent> findBorrowEventsAfter(
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") Integer id,
+            @Param("settledBefore") LocalDateTime settledBefore,
+            @Param("limit") int limit
+    );
+
+    // 보관 대상: 반납 승인이 끝난 내역 (return_approved, id) 인덱스로 ID 순 탐색
     @Query("""
-            SELECT history
+            SELECT history.id
             FROM BookTransactionHistory history
-            WHERE history.user.id = :userId
+            WHERE history.returnApproved = true
+            ORDER BY history.id
             """)
-    Page<BookTransactionHistory> findAllBorrowedBooks(Pageable pageable, Integer userId);
+    List<Integer> findArchivableIds(Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "book_transaction_history_archive")) // 2차 캐시에서 이 테이블만 무효화
+    @Query(value = """
+            INSERT INTO book_transaction_history_archive
+                (id, user_id, book_id, returned, return_approved,
+                 created_date, last_modified_date, created_by, last_modified_by, archived_date)
+            SELECT id, user_id, book_id, returned, return_approved,
+                   created_date, last_modified_date, created_by, last_modified_by, :archivedDate
+            FROM book_transaction_history
+            WHERE id IN (:ids)
+            AND return_approved = true
+            """, nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Integer> ids, @Param("archivedDate") LocalDateTime archivedDate);
+
+    @Modifying
     @Query("""
-            SELECT history
-            FROM BookTransactionHistory history
-            WHERE history.book.owner.id = :userId
+            DELETE FROM BookTransactionHistory history
+            WHERE history.id IN :ids
+            AND history.returnApproved = true
             """)
-    Page<BookTransactionHistory> findAllReturnedBooks(Pageable pageable, Integer userId);
+    int deleteArchived(@Param("ids") Collection<Integer> ids);
 }
-
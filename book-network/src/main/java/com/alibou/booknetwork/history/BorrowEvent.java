@@ -0,0 +1,20 @@
+package com.alibou.booknetwork.history;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 발생 기록 프로젝션
+ *
+ * 진행 중인 내역과 보관된 내역을 (createdDate, id) 순서로 합친 네이티브 쿼리의 결과 행입니다.
+ * CoBorrowIndexJob이 마지막으로 읽은 위치 이후의 대여만 가져오는 데 사용합니다.
+ */
+public interface BorrowEvent {
+
+    Integer getId();
+
+    LocalDateTime getCreatedDate();
+
+    Integer getUserId();
+
+    Integer getBookId();
+}
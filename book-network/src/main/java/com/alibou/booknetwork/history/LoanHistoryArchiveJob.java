@@ -0,0 +1,67 @@
+package com.alibou.booknetwork.history;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 완료된 대여 내역 보관 작업
+ *
+ * 반납 승인된 내역을 book_transaction_history에서 book_transaction_history_archive로 옮깁니다.
+ * 진행 중인 대여 테이블이 누적 대여 건수가 아니라 현재 대여 건수 수준으로 유지되므로
+ * 대여/반납 처리 비용이 운영 기간과 무관하게 일정합니다.
+ * batch-size개씩 복사와 삭제를 한 트랜잭션으로 처리하므로 긴 잠금이나 큰 트랜잭션이 생기지 않습니다.
+ */
+@Slf4j
+@Component
+public class LoanHistoryArchiveJob {
+    private final BookTransactionHistoryRepository transactionHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public LoanHistoryArchiveJob(
+            BookTransactionHistoryRepository transactionHistoryRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${application.loan-archive.batch-size:500}") int batchSize) {
+        this.transactionHistoryRepository = transactionHistoryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 반납 승인된 내역을 모두 보관 테이블로 옮깁니다.
+     *
+     * @return 옮긴 내역 수
+     */
+    @Scheduled(fixedDelayString = "${application.loan-archive.interval-ms:300000}",
+            initialDelayString = "${application.loan-archive.interval-ms:300000}")
+    public int archiveCompletedLoans() {
+        int archived = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Integer> ids = transactionHistoryRepository.findArchivableIds(PageRequest.ofSize(batchSize));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                // 반납 승인은 되돌려지지 않으므로 복사한 행과 삭제하는 행이 같음
+                transactionHistoryRepository.copyToArchive(ids, LocalDateTime.now());
+                transactionHistoryRepository.deleteArchived(ids);
+                return ids.size();
+            });
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} completed loans", archived);
+        }
+        return archived;
+    }
+}
@@ -0,0 +1,32 @@
+package com.alibou.booknetwork.history;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여/반납 목록 조회용 프로젝션
+ *
+ * 진행 중인 내역(book_transaction_history)과 보관된 내역(book_transaction_history_archive)을
+ * UNION ALL로 합친 네이티브 쿼리의 결과 행입니다. 도서 정보도 같은 쿼리에서 함께 조회합니다.
+ */
+public interface LoanHistoryEntry {
+
+    Integer getId();
+
+    LocalDateTime getCreatedDate();
+
+    boolean isReturned();
+
+    boolean isReturnApproved();
+
+    Integer getBookId();
+
+    String getTitle();
+
+    String getAuthorName();
+
+    String getIsbn();
+
+    double getRatingSum();
+
+    int getRatingCount();
+}
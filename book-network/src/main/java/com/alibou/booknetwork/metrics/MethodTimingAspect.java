@@ -0,0 +1,48 @@
+package com.alibou.booknetwork.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스/컨트롤러 메소드 실행 시간 측정 애스펙트
+ *
+ * 이름이 Service 또는 Controller로 끝나는 클래스의 public 메소드를 booknetwork.method 타이머로 기록합니다.
+ * 태그: class, method, exception (정상 종료 시 none)
+ *
+ * security 패키지는 제외합니다. JwtFilter 등 필터 빈은 final 메소드(doFilter)를 가지므로 프록시로 감쌀 수 없고,
+ * 요청마다 실행되는 인증 경로는 http.server.requests로 충분히 측정됩니다.
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+    private final MeterRegistry meterRegistry;
+
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("(execution(public * com.alibou.booknetwork..*Service.*(..))"
+            + " || execution(public * com.alibou.booknetwork..*Controller.*(..)))"
+            + " && !within(com.alibou.booknetwork.security..*)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("booknetwork.method")
+                    .description("Service and controller method execution time")
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
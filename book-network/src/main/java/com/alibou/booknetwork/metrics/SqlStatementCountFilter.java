@@ -0,0 +1,83 @@
+package com.alibou.booknetwork.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 SQL 문 수를 기록하는 필터
+ *
+ * 보안 필터보다 먼저 실행되어 JwtFilter의 사용자 조회까지 포함해 셉니다.
+ * 결과는 http.server.requests.sql (method, uri 태그) 히스토그램으로 기록되며,
+ * response-header가 켜져 있으면(dev) X-SQL-Statement-Count 응답 헤더로도 전달합니다.
+ * 헤더 값은 응답이 커밋되는 시점까지의 수이므로, 응답을 스트리밍하는 요청은 히스토그램 값이 더 클 수 있습니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-SQL-Statement-Count";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeader;
+
+    public SqlStatementCountFilter(
+            MeterRegistry meterRegistry,
+            @Value("${application.metrics.sql-count-header:false}") boolean responseHeader) {
+        this.meterRegistry = meterRegistry;
+        this.responseHeader = responseHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.start();
+        HttpServletResponse target = responseHeader ? new CountHeaderResponse(response) : response;
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            if (responseHeader && !response.isCommitted()) {
+                response.setHeader(HEADER, Integer.toString(SqlStatementCounter.current()));
+            }
+            int statements = SqlStatementCounter.stop();
+            DistributionSummary.builder("http.server.requests.sql")
+                    .description("SQL statements prepared by Hibernate per request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri(request))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+
+    // 경로 변수 값이 태그로 남지 않도록 매핑된 패턴(/books/{book-id})을 사용
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static final class CountHeaderResponse extends OnCommittedResponseWrapper {
+        CountHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setHeader(HEADER, Integer.toString(SqlStatementCounter.current()));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.alibou.booknetwork.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청마다 Hibernate가 준비한 SQL 문 수를 세는 StatementInspector
+ *
+ * SqlStatementCountFilter가 요청 시작 시 start()로 카운터를 열고 끝날 때 stop()으로 읽습니다.
+ * 요청 스레드 밖(스케줄러, @Async 작업)에서 실행된 SQL은 세지 않습니다.
+ * JdbcTemplate 등 Hibernate를 거치지 않는 SQL은 포함되지 않습니다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql; // SQL은 변경하지 않음
+    }
+
+    /**
+     * 현재 스레드에서 세기를 시작합니다.
+     */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * @return 현재 스레드에서 start() 이후 준비된 SQL 문 수 (시작하지 않았으면 0)
+     */
+    public static int current() {
+        int[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * 현재 스레드의 세기를 끝냅니다.
+     *
+     * @return start() 이후 준비된 SQL 문 수
+     */
+    public static int stop() {
+        int count = current();
+        COUNT.remove();
+        return count;
+    }
+}
@@ -0,0 +1,135 @@
+package com.alibou.booknetwork.ratelimit;
+
+import com.alibou.booknetwork.handler.ExceptionResponse;
+import com.alibou.booknetwork.security.CurrentUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트 그룹별 요청 제한 필터
+ *
+ * JwtFilter 다음에 실행되어, 인증된 요청은 사용자 ID로, 그 외 요청은 클라이언트 IP로 버킷을 구분합니다.
+ * 요청 경로(컨텍스트 경로 제외)의 접두사로 그룹을 고르며, 먼저 일치한 그룹 하나만 적용됩니다.
+ * - auth  : /auth/ (로그인/회원가입, 비밀번호 해싱 비용이 큼)
+ * - cover : /books/cover/ (디스크에서 파일을 읽음)
+ * - api   : 그 외 모든 요청
+ *
+ * 제한을 넘은 요청은 다음 토큰까지의 시간을 Retry-After(초)로 담아 429로 응답합니다.
+ * 프록시 뒤에서는 server.forward-headers-strategy를 설정해야 getRemoteAddr()가 실제 클라이언트 IP가 됩니다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final ObjectMapper objectMapper;
+    private final List<EndpointGroup> groups;
+
+    @Autowired
+    public RateLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${application.rate-limit.enabled:false}") boolean enabled,
+            @Value("${application.rate-limit.idle-expiry-seconds:600}") long idleExpirySeconds,
+            @Value("${application.rate-limit.max-buckets:100000}") long maxBuckets,
+            @Value("${application.rate-limit.auth.capacity:10}") int authCapacity,
+            @Value("${application.rate-limit.auth.refill-per-second:0.5}") double authRefill,
+            @Value("${application.rate-limit.cover.capacity:200}") int coverCapacity,
+            @Value("${application.rate-limit.cover.refill-per-second:50}") double coverRefill,
+            @Value("${application.rate-limit.api.capacity:100}") int apiCapacity,
+            @Value("${application.rate-limit.api.refill-per-second:20}") double apiRefill) {
+        this(objectMapper, !enabled ? List.of() : List.of(
+                new EndpointGroup("/auth/", new RateLimiter("auth", authCapacity, authRefill,
+                        Duration.ofSeconds(idleExpirySeconds), maxBuckets, meterRegistry)),
+                new EndpointGroup("/books/cover/", new RateLimiter("cover", coverCapacity, coverRefill,
+                        Duration.ofSeconds(idleExpirySeconds), maxBuckets, meterRegistry)),
+                new EndpointGroup("/", new RateLimiter("api", apiCapacity, apiRefill,
+                        Duration.ofSeconds(idleExpirySeconds), maxBuckets, meterRegistry))
+        ));
+    }
+
+    RateLimitFilter(ObjectMapper objectMapper, List<EndpointGroup> groups) {
+        this.objectMapper = objectMapper;
+        this.groups = groups;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RateLimiter limiter = resolve(request);
+        if (limiter != null) {
+            long waitNanos = limiter.tryAcquire(clientKey(request));
+            if (waitNanos > 0) {
+                reject(request, response, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimiter resolve(HttpServletRequest request) {
+        if (groups.isEmpty()) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith("/")) {
+            path = "/" + path;
+        }
+        for (EndpointGroup group : groups) {
+            if (path.startsWith(group.pathPrefix())) {
+                return group.limiter();
+            }
+        }
+        return null;
+    }
+
+    // 인증된 사용자는 IP가 바뀌어도 같은 버킷을 사용 (Integer 키와 IP 문자열 키는 서로 겹치지 않음)
+    private static Object clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)
+                && CurrentUser.isSupported(authentication.getPrincipal())) {
+            return CurrentUser.id(authentication);
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ExceptionResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .error("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해 주세요.")
+                .build());
+    }
+
+    /**
+     * @param pathPrefix 컨텍스트 경로를 제외한 요청 경로 접두사
+     * @param limiter 그룹의 요청 제한기
+     */
+    record EndpointGroup(String pathPrefix, RateLimiter limiter) {
+    }
+}
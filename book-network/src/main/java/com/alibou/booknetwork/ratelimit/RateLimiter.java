@@ -0,0 +1,107 @@
+package com.alibou.booknetwork.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(사용자 ID 또는 클라이언트 IP)별 토큰 버킷 요청 제한기
+ *
+ * 버킷마다 "다음 토큰이 채워지는 이론상 시각" 하나만 AtomicLong으로 저장하고(GCRA 방식의 토큰 버킷),
+ * 요청마다 CAS 한 번으로 토큰을 가져가므로 잠금이 없습니다.
+ * capacity개까지 연속 요청을 허용하고, 이후에는 refill-per-second 속도로 토큰이 채워집니다.
+ *
+ * 버킷은 Caffeine 캐시(내부적으로 분할된 ConcurrentHashMap)에 저장되며,
+ * idle-expiry 동안 요청이 없던 버킷은 제거됩니다. 제거 시점에는 버킷이 이미 가득 찬 상태이므로 제한이 느슨해지지 않습니다.
+ *
+ * 메트릭 (group 태그):
+ * - http.ratelimit.requests (outcome=allowed|rejected) : 결과별 요청 수
+ * - http.ratelimit.buckets : 유지 중인 버킷 수
+ */
+public class RateLimiter {
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final Ticker ticker;
+    private final Cache<Object, AtomicLong> buckets;
+    private final Counter allowedCounter;
+    private final Counter rejectedCounter;
+
+    public RateLimiter(
+            String group,
+            int capacity,
+            double refillPerSecond,
+            Duration idleExpiry,
+            long maxBuckets,
+            MeterRegistry meterRegistry) {
+        this(group, capacity, refillPerSecond, idleExpiry, maxBuckets, meterRegistry, Ticker.systemTicker());
+    }
+
+    RateLimiter(
+            String group,
+            int capacity,
+            double refillPerSecond,
+            Duration idleExpiry,
+            long maxBuckets,
+            MeterRegistry meterRegistry,
+            Ticker ticker) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit group " + group + " needs capacity >= 1 and refill > 0");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.ticker = ticker;
+        // 빈 버킷이 가득 찰 때까지는 유지해야 재요청 시 제한이 초기화되지 않음
+        Duration expiry = idleExpiry.compareTo(Duration.ofNanos(burstToleranceNanos)) < 0
+                ? Duration.ofNanos(burstToleranceNanos)
+                : idleExpiry;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(expiry)
+                .ticker(ticker)
+                .build();
+
+        this.allowedCounter = Counter.builder("http.ratelimit.requests")
+                .tag("group", group)
+                .tag("outcome", "allowed")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("http.ratelimit.requests")
+                .tag("group", group)
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+        Gauge.builder("http.ratelimit.buckets", buckets, Cache::estimatedSize)
+                .tag("group", group)
+                .description("Token buckets currently tracked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키의 버킷에서 토큰 하나를 가져옵니다.
+     *
+     * @param key 사용자 ID 또는 클라이언트 IP
+     * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간(나노초)
+     */
+    public long tryAcquire(Object key) {
+        long now = ticker.read();
+        AtomicLong bucket = buckets.get(key, ignored -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long next = Math.max(theoreticalArrival, now) + emissionIntervalNanos;
+            long waitNanos = next - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                rejectedCounter.increment();
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(theoreticalArrival, next)) {
+                allowedCounter.increment();
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.alibou.booknetwork.recommendation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * "이 책을 빌린 사람들이 함께 빌린 책" 동시 대여 인덱스
+ *
+ * 대여 내역을 하나씩 반영하여 희소 동시 대여 행렬(도서 → 함께 대여된 도서 → 두 도서를 모두 대여한 사용자 수)을 유지합니다.
+ * 새 대여는 그 사용자가 이전에 빌린 도서 수만큼만 갱신하므로 요청 시점의 자기 조인이나 전체 재계산이 필요 없습니다.
+ * - 같은 사용자가 같은 도서를 다시 빌린 경우는 한 번만 셉니다.
+ * - max-books-per-user권을 넘게 빌린 사용자의 이후 대여는 반영하지 않습니다. (한 명이 행렬 대부분을 채우는 것을 방지)
+ * - publish() 시 변경된 도서의 상위 top-k 이웃만 다시 계산해 공개합니다.
+ *   조회(findSimilar)는 공개된 불변 배열만 읽으므로 잠금 없이 메모리에서 처리됩니다.
+ *
+ * 갱신은 CoBorrowIndexJob 한 곳에서만 하며, 재시작 시에는 writeTo로 저장한 스냅샷에서 복원합니다.
+ * this 잠금은 메모리 상태를 바꾸거나 읽는 짧은 구간에만 사용하고, 스냅샷 입출력은 잠금 밖에서 합니다.
+ * (가상 스레드가 synchronized 안에서 I/O를 기다리면 캐리어 스레드가 고정됨)
+ */
+@Component
+public class CoBorrowIndex {
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final LocalDateTime START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final int topK;
+    private final int maxBooksPerUser;
+    private final Map<Integer, SimilarBooks> published = new ConcurrentHashMap<>();
+
+    // 아래 상태는 this 잠금 안에서만 바꾸며, 잠금 밖에서는 갱신 작업 스레드만 읽음 (writeTo)
+    private Map<Integer, IntIntMap> booksByUser = new HashMap<>();
+    private Map<Integer, IntIntMap> coBorrowsByBook = new HashMap<>();
+    private IntIntMap changedBooks = new IntIntMap();
+    private LocalDateTime lastCreatedDate = START;
+    private int lastHistoryId;
+
+    public CoBorrowIndex(
+            @Value("${application.recommendation.top-k:20}") int topK,
+            @Value("${application.recommendation.max-books-per-user:1000}") int maxBooksPerUser) {
+        this.topK = Math.max(1, topK);
+        this.maxBooksPerUser = Math.max(1, maxBooksPerUser);
+    }
+
+    /**
+     * 함께 대여된 횟수가 많은 순(같으면 도서 ID 순)으로 최대 size권을 반환합니다.
+     * 마지막 publish() 이후의 대여는 반영되지 않습니다.
+     *
+     * @param bookId 기준 도서 ID
+     * @param size 최대 개수 (top-k를 넘을 수 없음)
+     * @return 비슷한 도서 목록 (대여 기록이 없으면 빈 목록)
+     */
+    public List<SimilarBookResponse> findSimilar(Integer bookId, int size) {
+        SimilarBooks similar = published.get(bookId);
+        if (similar == null) {
+            return List.of();
+        }
+        int count = Math.min(Math.max(0, size), similar.bookIds().length);
+        List<SimilarBookResponse> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new SimilarBookResponse(similar.bookIds()[i], similar.coBorrowers()[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 대여 한 건을 반영합니다. 대여는 (createdDate, historyId) 순서로 전달되어야 합니다.
+     * 사용자나 도서가 없는 내역은 위치만 갱신합니다.
+     */
+    synchronized void record(int historyId, LocalDateTime createdDate, Integer userId, Integer bookId) {
+        lastCreatedDate = createdDate;
+        lastHistoryId = historyId;
+        if (userId == null || bookId == null) {
+            return;
+        }
+        IntIntMap books = booksByUser.computeIfAbsent(userId, id -> new IntIntMap());
+        if (books.get(bookId) != 0 || books.size() >= maxBooksPerUser) {
+            return;
+        }
+        books.forEach((otherBookId, ignored) -> {
+            increment(bookId, otherBookId);
+            increment(otherBookId, bookId);
+        });
+        books.addTo(bookId, 1);
+    }
+
+    /**
+     * 마지막 publish() 이후 변경된 도서의 상위 이웃을 다시 계산하여 조회에 반영합니다.
+     *
+     * @return 다시 계산한 도서 수
+     */
+    synchronized int publish() {
+        int[] books = changedBooks.keys();
+        for (int bookId : books) {
+            published.put(bookId, topNeighbours(coBorrowsByBook.get(bookId)));
+        }
+        changedBooks = new IntIntMap();
+        return books.length;
+    }
+
+    synchronized LocalDateTime lastCreatedDate() {
+        return lastCreatedDate;
+    }
+
+    synchronized int lastHistoryId() {
+        return lastHistoryId;
+    }
+
+    /**
+     * 마지막으로 반영한 대여 위치와 사용자별 대여 도서, 동시 대여 행렬을 저장합니다.
+     * 상위 이웃 목록은 복원 시 다시 계산하므로 저장하지 않습니다.
+     * 잠금 없이 쓰므로 record/readFrom과 같은 갱신 작업 안에서 순서대로 호출해야 합니다. (CoBorrowIndexJob의 잠금)
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeLong(lastCreatedDate.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(lastCreatedDate.getNano());
+        out.writeInt(lastHistoryId);
+        out.writeInt(booksByUser.size());
+        for (Map.Entry<Integer, IntIntMap> user : booksByUser.entrySet()) {
+            out.writeInt(user.getKey());
+            int[] books = user.getValue().keys();
+            out.writeInt(books.length);
+            for (int bookId : books) {
+                out.writeInt(bookId);
+            }
+        }
+        out.writeInt(coBorrowsByBook.size());
+        for (Map.Entry<Integer, IntIntMap> book : coBorrowsByBook.entrySet()) {
+            out.writeInt(book.getKey());
+            IntIntMap neighbours = book.getValue();
+            int[] otherBooks = neighbours.keys();
+            out.writeInt(otherBooks.length);
+            for (int otherBookId : otherBooks) {
+                out.writeInt(otherBookId);
+                out.writeInt(neighbours.get(otherBookId));
+            }
+        }
+    }
+
+    /**
+     * writeTo로 저장한 스냅샷으로 현재 상태를 교체하고 모든 도서의 상위 이웃을 공개합니다.
+     * 스냅샷은 잠금 없이 읽고, 다 읽은 뒤 잠금 안에서 한 번에 교체합니다.
+     *
+     * @throws IOException 스냅샷 형식이 다르거나 읽을 수 없는 경우 (현재 상태는 바뀌지 않음)
+     */
+    void readFrom(DataInput in) throws IOException {
+        int version = in.readInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported co-borrow snapshot version: " + version);
+        }
+        LocalDateTime createdDate = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        int historyId = in.readInt();
+        int userCount = in.readInt();
+        Map<Integer, IntIntMap> users = new HashMap<>(userCount * 2);
+        for (int i = 0; i < userCount; i++) {
+            int userId = in.readInt();
+            int bookCount = in.readInt();
+            IntIntMap books = new IntIntMap(bookCount);
+            for (int j = 0; j < bookCount; j++) {
+                books.addTo(in.readInt(), 1);
+            }
+            users.put(userId, books);
+        }
+        int bookCount = in.readInt();
+        Map<Integer, IntIntMap> coBorrows = new HashMap<>(bookCount * 2);
+        for (int i = 0; i < bookCount; i++) {
+            int bookId = in.readInt();
+            int neighbourCount = in.readInt();
+            IntIntMap neighbours = new IntIntMap(neighbourCount);
+            for (int j = 0; j < neighbourCount; j++) {
+                neighbours.addTo(in.readInt(), in.readInt());
+            }
+            coBorrows.put(bookId, neighbours);
+        }
+
+        synchronized (this) {
+            lastCreatedDate = createdDate;
+            lastHistoryId = historyId;
+            booksByUser = users;
+            coBorrowsByBook = coBorrows;
+            changedBooks = new IntIntMap(coBorrows.size());
+            coBorrows.keySet().forEach(bookId -> changedBooks.addTo(bookId, 1));
+            published.clear();
+            publish();
+        }
+    }
+
+    private void increment(int bookId, int otherBookId) {
+        coBorrowsByBook.computeIfAbsent(bookId, id -> new IntIntMap()).addTo(otherBookId, 1);
+        changedBooks.addTo(bookId, 1);
+    }
+
+    // (횟수 << 32 | MAX - 도서 ID)로 묶어 정렬하면 뒤에서부터 횟수 내림차순, 도서 ID 오름차순
+    private SimilarBooks topNeighbours(IntIntMap neighbours) {
+        long[] ranked = new long[neighbours.size()];
+        int[] next = {0};
+        neighbours.forEach((otherBookId, count) ->
+                ranked[next[0]++] = ((long) count << 32) | (Integer.MAX_VALUE - otherBookId));
+        Arrays.sort(ranked);
+        int size = Math.min(topK, ranked.length);
+        int[] bookIds = new int[size];
+        int[] coBorrowers = new int[size];
+        for (int i = 0; i < size; i++) {
+            long entry = ranked[ranked.length - 1 - i];
+            coBorrowers[i] = (int) (entry >>> 32);
+            bookIds[i] = Integer.MAX_VALUE - (int) entry;
+        }
+        return new SimilarBooks(bookIds, coBorrowers);
+    }
+
+    private record SimilarBooks(int[] bookIds, int[] coBorrowers) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.alibou.booknetwork.recommendation;
+
+import com.alibou.booknetwork.history.BookTransactionHistoryRepository;
+import com.alibou.booknetwork.history.BorrowEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 동시 대여 인덱스 갱신 작업
+ *
+ * 마지막으로 반영한 (createdDate, id) 이후의 대여 내역을 진행 중/보관 테이블에서 batch-size개씩 읽어 CoBorrowIndex에 반영합니다.
+ * 커밋이 늦은 대여를 건너뛰지 않도록 생성 후 settle-seconds가 지난 내역만 읽습니다.
+ * 반영한 내역이 있으면 스냅샷 파일을 임시 파일에 쓴 뒤 교체하므로, 재시작 시 전체 내역을 다시 읽지 않고 스냅샷 이후만 읽습니다.
+ * 스냅샷이 없거나 읽을 수 없으면 처음부터 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class CoBorrowIndexJob {
+    private final BookTransactionHistoryRepository transactionHistoryRepository;
+    private final CoBorrowIndex coBorrowIndex;
+    private final Path snapshotPath;
+    private final int batchSize;
+    private final Duration settleTime;
+    // 락을 잡은 채 DB 조회와 스냅샷 파일 I/O를 하므로 synchronized 대신 ReentrantLock 사용 (가상 스레드가 캐리어 스레드를 고정하지 않음)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private boolean restored; // refreshLock 안에서만 접근
+
+    public CoBorrowIndexJob(
+            BookTransactionHistoryRepository transactionHistoryRepository,
+            CoBorrowIndex coBorrowIndex,
+            @Value("${application.recommendation.snapshot-path:./recommendations/co-borrow.snapshot}") String snapshotPath,
+            @Value("${application.recommendation.batch-size:1000}") int batchSize,
+            @Value("${application.recommendation.settle-seconds:30}") long settleSeconds) {
+        this.transactionHistoryRepository = transactionHistoryRepository;
+        this.coBorrowIndex = coBorrowIndex;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.batchSize = Math.max(1, batchSize);
+        this.settleTime = Duration.ofSeconds(Math.max(0, settleSeconds));
+    }
+
+    /**
+     * 새 대여 내역을 인덱스에 반영합니다. 첫 실행에서는 스냅샷을 먼저 복원합니다.
+     *
+     * @return 반영한 대여 내역 수
+     */
+    @Scheduled(fixedDelayString = "${application.recommendation.interval-ms:60000}",
+            initialDelayString = "${application.recommendation.initial-delay-ms:0}")
+    public int refresh() {
+        refreshLock.lock();
+        try {
+            if (!restored) {
+                restoreSnapshot();
+                restored = true;
+            }
+            LocalDateTime settledBefore = LocalDateTime.now().minus(settleTime);
+            int processed = 0;
+            List<BorrowEvent> events;
+            do {
+                events = transactionHistoryRepository.findBorrowEventsAfter(
+                        coBorrowIndex.lastCreatedDate(), coBorrowIndex.lastHistoryId(), settledBefore, batchSize);
+                for (BorrowEvent event : events) {
+                    coBorrowIndex.record(event.getId(), event.getCreatedDate(), event.getUserId(), event.getBookId());
+                }
+                processed += events.size();
+            } while (events.size() == batchSize);
+
+            if (processed > 0) {
+                int changedBooks = coBorrowIndex.publish();
+                saveSnapshot();
+                log.info("Indexed {} loans, refreshed similar books for {} books", processed, changedBooks);
+            }
+            return processed;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void restoreSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            coBorrowIndex.readFrom(in);
+            log.info("Restored co-borrow index from {} (up to {})", snapshotPath, coBorrowIndex.lastCreatedDate());
+        } catch (IOException e) {
+            log.warn("Could not read co-borrow snapshot {}, rebuilding from loan history", snapshotPath, e);
+        }
+    }
+
+    // 저장에 실패해도 인덱스는 그대로 사용하고, 다음 실행에서 다시 저장
+    private void saveSnapshot() {
+        try {
+            Path directory = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, snapshotPath.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                coBorrowIndex.writeTo(out);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write co-borrow snapshot {}", snapshotPath, e);
+        }
+    }
+}
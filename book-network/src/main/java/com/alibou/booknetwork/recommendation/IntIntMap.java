@@ -0,0 +1,110 @@
+package com.alibou.booknetwork.recommendation;
+
+/**
+ * int 키 → int 값 맵 (개방 주소법, 선형 탐사)
+ *
+ * 도서/사용자 ID처럼 0보다 큰 키만 사용합니다. (0은 빈 칸 표시)
+ * HashMap&lt;Integer, Integer&gt;와 달리 항목마다 Entry/박싱 객체를 만들지 않으므로 희소 동시 대여 행렬을 작게 유지합니다.
+ * 동기화하지 않으므로 CoBorrowIndex의 잠금 안에서만 사용합니다.
+ */
+final class IntIntMap {
+    private static final int MIN_CAPACITY = 4;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    IntIntMap() {
+        this(MIN_CAPACITY);
+    }
+
+    IntIntMap(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) { // 적재율 0.5 이하 유지
+            capacity <<= 1;
+        }
+        keys = new int[capacity];
+        values = new int[capacity];
+    }
+
+    int get(int key) {
+        int index = indexOf(key);
+        return keys[index] == 0 ? 0 : values[index];
+    }
+
+    /**
+     * 키의 값에 delta를 더하고 더한 결과를 반환합니다. 없는 키는 0에서 시작합니다.
+     */
+    int addTo(int key, int delta) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("Key must be positive: " + key);
+        }
+        int index = indexOf(key);
+        if (keys[index] == key) {
+            return values[index] += delta;
+        }
+        keys[index] = key;
+        values[index] = delta;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return delta;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] keys() {
+        int[] result = new int[size];
+        int next = 0;
+        for (int key : keys) {
+            if (key != 0) {
+                result[next++] = key;
+            }
+        }
+        return result;
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int indexOf(int key) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (keys[index] != 0 && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    // 연속된 ID가 같은 구간에 몰리지 않도록 분산
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(int key, int value);
+    }
+}
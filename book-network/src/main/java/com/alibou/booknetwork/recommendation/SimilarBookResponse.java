@@ -0,0 +1,18 @@
+package com.alibou.booknetwork.recommendation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SimilarBookResponse {
+
+    private Integer bookId;
+    private int coBorrowers; // 두 도서를 모두 대여한 사용자 수
+}
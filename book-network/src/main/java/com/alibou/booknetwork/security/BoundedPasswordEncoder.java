@@ -0,0 +1,103 @@
+package com.alibou.booknetwork.security;
+
+import com.alibou.booknetwork.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해싱을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ *
+ * BCrypt 해싱은 CPU를 오래 사용하므로 요청 스레드에서 직접 실행하면 로그인이 몰릴 때
+ * 모든 요청 스레드가 해싱에 묶여 도서 API까지 지연됩니다.
+ * 해싱은 크기가 제한된 passwordHashingExecutor에서만 실행되며,
+ * 대기열이 가득 차거나 max-wait 안에 끝나지 않으면 PasswordHashingBusyException(503)으로 바로 실패합니다.
+ *
+ * upgradeEncoding은 위임 인코더(설정된 cost의 BCrypt)에 그대로 위임하므로,
+ * 저장된 해시의 cost가 설정값보다 낮으면 DaoAuthenticationProvider가 로그인 성공 시 다시 인코딩합니다.
+ *
+ * 메트릭:
+ * - auth.password.hash (operation=encode|matches) : 해싱 실행 시간 (대기 시간 제외)
+ * - auth.password.hash.rejected : 대기열 초과/대기 시간 초과로 거절된 건수
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration maxWait;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            ThreadPoolTaskExecutor executor,
+            Duration maxWait,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.maxWait = maxWait;
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "encode")
+                .description("Password hashing time on the hashing pool")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "matches")
+                .description("Password hashing time on the hashing pool")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("Password hashing requests rejected because the hashing pool was saturated")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 문자열의 cost만 비교하므로 요청 스레드에서 실행
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(hashing);
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("Password hashing queue is full", e);
+        }
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("Password hashing did not finish within " + maxWait, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.alibou.booknetwork.security;
+
+import java.security.Principal;
+
+/**
+ * 검증된 JWT 클레임만으로 만든 인증 주체
+ *
+ * claims-only 모드에서 JwtFilter가 User 엔티티 대신 SecurityContext에 설정합니다.
+ * 사용자 ID, 이메일, 이름만 담고 있으므로 엔티티가 필요한 곳에서는
+ * UserRepository.getReferenceById 또는 조회를 통해 얻어야 합니다.
+ *
+ * @param id 사용자 ID ("userId" 클레임)
+ * @param email 사용자 이메일 (subject)
+ * @param fullName 사용자 이름 ("fullName" 클레임)
+ */
+public record ClaimsPrincipal(Integer id, String email, String fullName) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
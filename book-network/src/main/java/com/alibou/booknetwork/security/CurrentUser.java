@@ -0,0 +1,41 @@
+package com.alibou.booknetwork.security;
+
+import com.alibou.booknetwork.user.User;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 인증 객체에서 현재 사용자 ID를 꺼내는 유틸리티
+ *
+ * 인증 주체는 기본 모드에서는 User 엔티티, claims-only 모드에서는 ClaimsPrincipal입니다.
+ * 서비스는 주체 타입에 의존하지 않도록 이 클래스를 통해 ID만 사용합니다.
+ */
+public final class CurrentUser {
+
+    private CurrentUser() {
+    }
+
+    /**
+     * @param principal 인증 주체
+     * @return 지원하는 주체 타입이면 true
+     */
+    public static boolean isSupported(Object principal) {
+        return principal instanceof User || principal instanceof ClaimsPrincipal;
+    }
+
+    /**
+     * @param connectedUser 현재 인증 객체
+     * @return 현재 사용자 ID
+     * @throws IllegalStateException 지원하지 않는 주체 타입인 경우
+     */
+    public static Integer id(Authentication connectedUser) {
+        Object principal = connectedUser.getPrincipal();
+        if (principal instanceof User user) {
+            return user.getId();
+        }
+        if (principal instanceof ClaimsPrincipal claimsPrincipal) {
+            return claimsPrincipal.id();
+        }
+        throw new IllegalStateException("Unsupported principal type: "
+                + (principal != null ? principal.getClass().getName() : "null"));
+    }
+}
@@ -1,11 +1,13 @@
 package com.alibou.booknetwork.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.lang.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -33,6 +35,11 @@ public class JwtFilter extends OncePerRequestFilter { // OncePerRequestFilter를
     private final JwtService jwtService; // JWT 토큰 처리를 위한 서비스
     private final UserDetailsService userDetailsService; // 사용자 정보를 로드하기 위한 서비스
 
+    // true이면 검증된 클레임만으로 인증 주체(ClaimsPrincipal)를 만들어 요청마다의 사용자/역할 조회를 생략
+    // 계정 잠금/비활성화는 토큰 만료 전까지 반영되지 않으므로 짧은 토큰 수명과 함께 사용
+    @Value("${application.security.jwt.claims-only-principal:false}")
+    private boolean claimsOnlyPrincipal;
+
     /**
      * 요청이 들어올 때마다 실행되는 필터 메소드
      * JWT 토큰을 검증하고 인증된 사용자 정보를 SecurityContext에 설정합니다.
@@ -73,8 +80,9 @@ public class JwtFilter extends OncePerRequestFilter { // OncePerRequestFilter를
         
         // "Bearer " 접두사(7자) 이후의 문자열을 JWT 토큰으로 추출
         jwt = authHeader.substring(7);
-        // JWT 토큰에서 사용자 이메일(식별자) 추출
-        userEmail = jwtService.extractUsername(jwt);
+        // JWT 토큰을 한 번만 검증/파싱하고(캐시 적중 시 생략) 사용자 이메일(식별자) 추출
+        final Claims claims = jwtService.extractAllClaims(jwt);
+        userEmail = claims.getSubject();
 
         /**
          * SecurityContextHolder.getContext().getAuthentication() == null은 
@@ -86,12 +94,25 @@ public class JwtFilter extends OncePerRequestFilter { // OncePerRequestFilter를
          * 
          * 이 조건은 사용자가 아직 인증되지 않았는지 확인하여 중복 인증을 방지합니다.
          */
+        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && claimsOnlyPrincipal && jwtService.hasPrincipalClaims(claims)) {
+            // claims-only 모드: 서명과 만료가 이미 검증되었으므로 DB 조회 없이 클레임만으로 주체 구성
+            // (userId 클레임이 없는 이전 토큰은 아래의 사용자 조회 방식으로 처리)
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    jwtService.toClaimsPrincipal(claims),
+                    null,
+                    jwtService.extractAuthorities(claims)
+            );
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+        }
+
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             // 이메일을 기반으로 사용자 정보 로드
             UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
             
             // JWT 토큰이 유효한지 검증
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (jwtService.isTokenValid(claims, userDetails)) {
                 /**
                  * UsernamePasswordAuthenticationToken은 Spring Security에서 사용하는 인증 객체입니다.
                  * 이 객체는 인증된 사용자의 주요 정보와 권한을 담고 있습니다.
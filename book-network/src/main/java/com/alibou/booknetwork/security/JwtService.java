@@ -1,17 +1,27 @@
 package com.alibou.booknetwork.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -23,11 +33,31 @@ import java.util.function.Function;
  */
 @Service
 public class JwtService {
-    @Value("${application.security.jwt.expiration}")
-    private long jwtExpiration; // JWT 토큰의 만료 시간(밀리초)
-    
-    @Value("${application.security.jwt.secret-key}")
-    private String secretKey; // JWT 토큰 서명에 사용되는 비밀 키
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String FULL_NAME_CLAIM = "fullName";
+    public static final String AUTHORITIES_CLAIM = "authorities";
+
+    private final long jwtExpiration; // JWT 토큰의 만료 시간(밀리초)
+    private final Key signInKey; // 비밀 키는 기동 시 한 번만 디코딩
+    private final JwtParser jwtParser; // 스레드 안전하므로 모든 요청에서 재사용
+    private final Cache<String, Claims> verifiedClaims; // 토큰 해시 -> 서명 검증을 마친 클레임
+
+    public JwtService(
+            @Value("${application.security.jwt.expiration}") long jwtExpiration,
+            @Value("${application.security.jwt.secret-key}") String secretKey,
+            @Value("${application.security.jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize,
+            @Value("${application.security.jwt.claims-cache.ttl-seconds:300}") long claimsCacheTtlSeconds
+    ) {
+        this.jwtExpiration = jwtExpiration;
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)); // HMAC-SHA 알고리즘에 사용할 키 생성
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey) // 토큰 검증을 위한 서명 키 설정
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(claimsCacheTtlSeconds))
+                .build();
+    }
 
     /**
      * 사용자 정보를 기반으로 JWT 토큰을 생성합니다.
@@ -69,8 +99,8 @@ public class JwtService {
                 .setSubject(userDetails.getUsername()) // 사용자 식별자(username) 설정
                 .setIssuedAt(new Date(System.currentTimeMillis())) // 토큰 발행 시간 설정
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration)) // 토큰 만료 시간 설정
-                .claim("authorities", authorities) // 사용자 권한 정보 설정
-                .signWith(getSignInKey()) // 비밀 키로 토큰 서명
+                .claim(AUTHORITIES_CLAIM, authorities) // 사용자 권한 정보 설정
+                .signWith(signInKey) // 비밀 키로 토큰 서명
                 .compact(); // 토큰을 문자열로 변환
     }
 
@@ -84,28 +114,64 @@ public class JwtService {
      * @return 토큰이 유효하면 true, 그렇지 않으면 false
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return isTokenValid(extractAllClaims(token), userDetails);
     }
 
     /**
-     * 토큰이 만료되었는지 확인합니다.
+     * 이미 검증된 클레임으로 토큰 유효성을 확인합니다. 토큰을 다시 파싱하지 않습니다.
      * 
-     * @param token 검사할 JWT 토큰
+     * @param claims extractAllClaims로 얻은 클레임
+     * @param userDetails 사용자 상세 정보
+     * @return 토큰이 유효하면 true, 그렇지 않으면 false
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims);
+    }
+
+    /**
+     * 클레임의 만료 시간이 지났는지 확인합니다.
+     * 
+     * @param claims 검사할 클레임
      * @return 토큰이 만료되었으면 true, 그렇지 않으면 false
      */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     /**
-     * 토큰에서 만료 시간을 추출합니다.
+     * claims-only 인증에 필요한 클레임(사용자 ID)이 있는지 확인합니다.
+     */
+    public boolean hasPrincipalClaims(Claims claims) {
+        return claims.get(USER_ID_CLAIM) instanceof Number;
+    }
+
+    /**
+     * 검증된 클레임으로 인증 주체를 만듭니다.
      * 
-     * @param token JWT 토큰
-     * @return 토큰의 만료 시간
+     * @param claims extractAllClaims로 얻은 클레임
+     * @return 클레임 기반 인증 주체
+     */
+    public ClaimsPrincipal toClaimsPrincipal(Claims claims) {
+        return new ClaimsPrincipal(
+                ((Number) claims.get(USER_ID_CLAIM)).intValue(),
+                claims.getSubject(),
+                claims.get(FULL_NAME_CLAIM, String.class)
+        );
+    }
+
+    /**
+     * 클레임의 권한 목록을 GrantedAuthority로 변환합니다.
+     * 
+     * @param claims extractAllClaims로 얻은 클레임
+     * @return 권한 목록 (클레임이 없으면 빈 목록)
      */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        if (!(claims.get(AUTHORITIES_CLAIM) instanceof List<?> authorities)) {
+            return List.of();
+        }
+        return authorities.stream()
+                .map(authority -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(authority)))
+                .toList();
     }
 
     /**
@@ -143,26 +209,34 @@ public class JwtService {
     /**
      * 토큰에서 모든 클레임을 추출합니다.
      * 
+     * 서명 검증을 통과한 클레임은 토큰의 SHA-256 해시를 키로 캐시되므로
+     * 같은 토큰의 반복 요청에서는 Base64 디코딩, JSON 파싱, HMAC 검증을 생략합니다.
+     * 캐시된 클레임도 만료 시간이 지나면 다시 파싱하여 ExpiredJwtException이 발생합니다.
+     * 
      * @param token JWT 토큰
      * @return 토큰의 모든 클레임
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey()) // 토큰 검증을 위한 서명 키 설정
-                .build()
+    public Claims extractAllClaims(String token) {
+        final String cacheKey = sha256(token);
+        Claims claims = verifiedClaims.getIfPresent(cacheKey);
+        if (claims != null && !isExpired(claims)) {
+            return claims;
+        }
+        claims = jwtParser
                 .parseClaimsJws(token) // 토큰 파싱 및 서명 검증
                 .getBody(); // 클레임(페이로드) 반환
+        verifiedClaims.put(cacheKey, claims);
+        return claims;
     }
 
-    /**
-     * 서명 키를 생성합니다.
-     * 비밀 키를 디코딩하고 HMAC-SHA 알고리즘에 적합한 키로 변환합니다.
-     * 
-     * @return JWT 서명에 사용될 키
-     */
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey); // Base64로 인코딩된 비밀 키를 디코딩
-        return Keys.hmacShaKeyFor(keyBytes); // HMAC-SHA 알고리즘에 사용할 키 생성
+    private static String sha256(String token) {
+        try {
+            // 원본 토큰 대신 해시를 보관하여 캐시 메모리에 자격 증명이 남지 않도록 함
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
     }
 }
 
@@ -1,8 +1,10 @@
 package com.alibou.booknetwork.security;
 
+import com.alibou.booknetwork.ratelimit.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -49,6 +51,7 @@ import static org.springframework.security.config.Customizer.withDefaults;
 public class SecurityConfig {
     private final JwtFilter jwtAuthFilter; // JWT 인증 필터 - 요청의 JWT 토큰을 검증합니다.
     private final AuthenticationProvider authenticationProvider; // 사용자 인증 제공자 - 실제 인증 로직을 처리합니다.
+    private final RateLimitFilter rateLimitFilter; // 요청 제한 필터 - 사용자/IP별 토큰 버킷으로 과도한 요청을 429로 거절합니다.
 
     /**
      * 스프링 시큐리티 필터 체인 설정
@@ -131,11 +134,13 @@ public class SecurityConfig {
                                             "/webjars/**",
                                             "/swagger-ui.html"
                             ).permitAll() // 위의 경로들은 인증 없이 모든 사용자에게 허용됩니다.
+                                    .requestMatchers(HttpMethod.GET, "/books/cover/**").permitAll() // 표지 이미지는 <img> 태그와 공유 캐시에서 직접 요청하므로 공개합니다. 로그인하지 않은 요청에는 공개 도서의 표지만 제공합니다(BookService.findBookCover).
                                     .anyRequest().authenticated() // 그 외 모든 요청은 인증이 필요합니다.
                         )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // JWT 기반 인증이므로 세션을 생성하지 않습니다(무상태 방식).
                 .authenticationProvider(authenticationProvider) // 사용자 인증을 처리할 제공자를 설정합니다.
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class); // UsernamePasswordAuthenticationFilter 전에 JWT 필터를 추가하여 토큰을 먼저 검증합니다.
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class) // UsernamePasswordAuthenticationFilter 전에 JWT 필터를 추가하여 토큰을 먼저 검증합니다.
+                .addFilterAfter(rateLimitFilter, JwtFilter.class); // 인증된 사용자 ID로 버킷을 구분할 수 있도록 JWT 필터 다음에 요청 제한을 적용합니다.
         return http.build();
     }
     
@@ -0,0 +1,44 @@
+package com.alibou.booknetwork.security;
+
+import com.alibou.booknetwork.user.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티가 갱신/삭제되면 UserDetailsServiceImpl의 캐시를 비우는 JPA 엔티티 리스너
+ *
+ * 계정 잠금, 활성화 상태 변경 등이 캐시 TTL 동안 무시되지 않도록 합니다.
+ * 커밋 전에 비우면 다른 요청이 이전 값을 다시 캐시할 수 있으므로 트랜잭션 커밋 후에 비웁니다.
+ * 역할 컬렉션만 바뀌는 경우에는 엔티티 갱신 이벤트가 발생하지 않을 수 있으므로
+ * 역할을 변경하는 코드는 UserDetailsServiceImpl.evict를 직접 호출해야 합니다.
+ *
+ * Hibernate가 Spring 빈으로 생성하며, EntityManagerFactory와의 순환 참조를 피하기 위해 ObjectProvider로 조회합니다.
+ */
+@Component
+public class UserDetailsCacheListener {
+    private final ObjectProvider<UserDetailsServiceImpl> userDetailsService;
+
+    public UserDetailsCacheListener(ObjectProvider<UserDetailsServiceImpl> userDetailsService) {
+        this.userDetailsService = userDetailsService;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        final String email = user.getEmail();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    userDetailsService.ifAvailable(service -> service.evict(email));
+                }
+            });
+        } else {
+            userDetailsService.ifAvailable(service -> service.evict(email));
+        }
+    }
+}
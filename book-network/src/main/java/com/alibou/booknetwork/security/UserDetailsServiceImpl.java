@@ -1,12 +1,17 @@
 package com.alibou.booknetwork.security;
 
+import com.alibou.booknetwork.user.User;
 import com.alibou.booknetwork.user.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
 
 /**
  * Spring Security를 위한 UserDetailsService 구현체
@@ -16,9 +21,22 @@ import org.springframework.transaction.annotation.Transactional;
  * 기반으로 UserDetails 객체를 로드하는 기능을 제공합니다.
  */
 @Service
-@RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository repository;
+    // 이메일 -> 사용자. 매 요청마다 역할 조인 쿼리가 실행되지 않도록 짧은 TTL로 캐시
+    private final Cache<String, User> users;
+
+    public UserDetailsServiceImpl(
+            UserRepository repository,
+            @Value("${application.security.user-cache.max-size:10000}") long maxSize,
+            @Value("${application.security.user-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.repository = repository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
 
     /**
      * 사용자명(이메일)을 기반으로 사용자 정보를 로드합니다.
@@ -31,10 +49,39 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우 발생
      */
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String userEmail) throws UsernameNotFoundException {
-        return repository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + userEmail));
+        // 역할은 EAGER로 함께 로드되므로 트랜잭션 밖에서 캐시해도 권한 조회가 가능함
+        return users.get(userEmail, email -> repository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + email)));
+    }
+
+    /**
+     * 로그인 성공 시 설정된 BCrypt cost로 다시 인코딩한 비밀번호를 저장합니다.
+     * 
+     * DaoAuthenticationProvider가 PasswordEncoder.upgradeEncoding이 true인 경우에만 호출합니다.
+     * 캐시된 엔티티가 아닌 최신 사용자를 다시 조회해 갱신하며, 캐시는 UserDetailsCacheListener가 비웁니다.
+     * 
+     * @param user 인증된 사용자
+     * @param newPassword 새 cost로 인코딩된 비밀번호
+     * @return 비밀번호가 갱신된 사용자
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User stored = repository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + user.getUsername()));
+        stored.setPassword(newPassword);
+        return repository.save(stored);
+    }
+
+    /**
+     * 캐시된 사용자 정보를 제거합니다.
+     * 계정 잠금, 비활성화/활성화, 역할 변경 등 인증에 영향을 주는 변경 후 호출해야 합니다.
+     * (User 엔티티 갱신은 UserDetailsCacheListener가 자동으로 호출)
+     * 
+     * @param userEmail 사용자 이메일
+     */
+    public void evict(String userEmail) {
+        users.invalidate(userEmail);
     }
 }
 
@@ -0,0 +1,145 @@
+package com.alibou.booknetwork.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 계정 활성화 토큰 저장소
+ *
+ * - 토큰 원문은 이메일로만 전달하고, 데이터베이스에는 유일 인덱스가 있는 SHA-256 해시만 저장합니다.
+ * - 사용자별 미검증 토큰은 max-outstanding-per-user개를 넘지 않도록 새 토큰 발급 시 오래된 것부터 삭제합니다.
+ * - 검증된 토큰과 만료 후 보존 기간(retention)이 지난 토큰은 sweep으로 일정 크기씩 나누어 삭제합니다.
+ */
+@Service
+public class ActivationTokenStore {
+    private static final String CODE_CHARACTERS = "0123456789";
+    private static final int MAX_GENERATION_ATTEMPTS = 10;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final TokenRepository tokenRepository;
+    private final int codeLength;
+    private final Duration ttl;
+    private final int maxOutstandingPerUser;
+    private final Duration retention;
+
+    public ActivationTokenStore(
+            TokenRepository tokenRepository,
+            @Value("${application.security.activation-token.length:6}") int codeLength,
+            @Value("${application.security.activation-token.ttl-minutes:15}") long ttlMinutes,
+            @Value("${application.security.activation-token.max-outstanding-per-user:3}") int maxOutstandingPerUser,
+            @Value("${application.security.activation-token.retention-hours:24}") long retentionHours) {
+        this.tokenRepository = tokenRepository;
+        this.codeLength = codeLength;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.maxOutstandingPerUser = Math.max(1, maxOutstandingPerUser);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * 새 활성화 토큰을 발급합니다. 호출 측 트랜잭션에 참여합니다.
+     *
+     * @param user 토큰을 발급할 사용자
+     * @return 이메일로 전달할 토큰 원문
+     */
+    @Transactional
+    public String issue(User user) {
+        if (user.getId() != null) {
+            // 새 토큰을 포함해 최대 개수를 넘지 않도록 가장 오래된 미검증 토큰부터 삭제
+            List<Integer> outstanding = tokenRepository.findUnvalidatedIdsByUserId(user.getId());
+            if (outstanding.size() >= maxOutstandingPerUser) {
+                tokenRepository.deleteByIds(outstanding.subList(maxOutstandingPerUser - 1, outstanding.size()));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String code = generateUniqueCode();
+        tokenRepository.save(Token.builder()
+                .tokenHash(hash(code))
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .user(user)
+                .build());
+        return code;
+    }
+
+    /**
+     * 토큰 원문으로 저장된 토큰을 조회합니다. (해시 유일 인덱스 조회)
+     *
+     * @param code 토큰 원문
+     * @return 저장된 토큰
+     */
+    public Optional<Token> find(String code) {
+        return tokenRepository.findByTokenHash(hash(code));
+    }
+
+    /**
+     * 토큰을 검증 완료로 표시합니다. 검증된 토큰은 다음 정리 때 삭제됩니다.
+     *
+     * @param token 저장된 토큰
+     */
+    public void markValidated(Token token) {
+        token.setValidatedAt(LocalDateTime.now());
+        tokenRepository.save(token);
+    }
+
+    /**
+     * 정리 대상 토큰을 batchSize개씩 나누어 삭제합니다.
+     * 만료된 토큰은 재발송 요청을 처리할 수 있도록 보존 기간이 지난 뒤 삭제합니다.
+     *
+     * @param batchSize 한 번의 DELETE로 삭제할 최대 행 수
+     * @return 삭제한 토큰 수
+     */
+    public int sweep(int batchSize) {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(retention);
+        int deleted = 0;
+        while (true) {
+            List<Integer> ids = tokenRepository.findSweepableIds(expiredBefore, PageRequest.ofSize(batchSize));
+            if (!ids.isEmpty()) {
+                deleted += tokenRepository.deleteByIds(ids);
+            }
+            if (ids.size() < batchSize) {
+                return deleted;
+            }
+        }
+    }
+
+    private String generateUniqueCode() {
+        // 활성화 코드는 짧으므로 현재 남아 있는 토큰과 겹치면 다시 생성
+        for (int attempt = 0; attempt < MAX_GENERATION_ATTEMPTS; attempt++) {
+            String code = generateCode();
+            if (!tokenRepository.existsByTokenHash(hash(code))) {
+                return code;
+            }
+        }
+        throw new IllegalStateException("Could not generate a unique activation token");
+    }
+
+    private String generateCode() {
+        StringBuilder code = new StringBuilder(codeLength);
+        for (int i = 0; i < codeLength; i++) {
+            code.append(CODE_CHARACTERS.charAt(secureRandom.nextInt(CODE_CHARACTERS.length())));
+        }
+        return code.toString();
+    }
+
+    private static String hash(String code) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(code.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+}
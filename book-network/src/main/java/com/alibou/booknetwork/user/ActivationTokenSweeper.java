@@ -0,0 +1,32 @@
+package com.alibou.booknetwork.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 활성화 토큰 정리 작업
+ *
+ * 검증된 토큰과 만료 후 보존 기간이 지난 토큰을 주기적으로 삭제하여,
+ * 운영 기간과 무관하게 token 테이블이 미검증 토큰 수 수준으로 유지되도록 합니다.
+ * 한 번에 batch-size개씩 삭제하므로 긴 잠금이나 큰 트랜잭션이 생기지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivationTokenSweeper {
+    private final ActivationTokenStore activationTokenStore;
+
+    @Value("${application.security.activation-token.sweep-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${application.security.activation-token.sweep-interval-ms:600000}")
+    public void sweep() {
+        int deleted = activationTokenStore.sweep(batchSize);
+        if (deleted > 0) {
+            log.info("Deleted {} validated or expired activation tokens", deleted);
+        }
+    }
+}
@@ -6,20 +6,33 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/**
+ * 계정 활성화 토큰
+ *
+ * 토큰 원문 대신 SHA-256 해시만 저장하며, 해시에 유일 인덱스가 있어 조회는 인덱스 한 번으로 끝납니다.
+ * 검증되었거나 만료 후 보존 기간이 지난 토큰은 ActivationTokenSweeper가 삭제합니다.
+ */
 @Getter
 @Setter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "uk_token_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_token_user_id", columnList = "userId"),
+        @Index(name = "idx_token_expires_at", columnList = "expires_at")
+})
 public class Token {
     @Id
     @GeneratedValue
     private Integer id;
 
-    private String token;
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash; // 토큰 원문의 SHA-256 (16진수 소문자)
 
     private LocalDateTime createdAt;
+    @Column(name = "expires_at")
     private LocalDateTime expiresAt;
     private LocalDateTime validatedAt;
 
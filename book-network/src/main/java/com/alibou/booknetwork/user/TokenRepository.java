@@ -1,9 +1,46 @@
 package com.alibou.booknetwork.user;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TokenRepository extends JpaRepository<Token, Integer>{
-    Optional<Token> findByToken(String token);
+    Optional<Token> findByTokenHash(String tokenHash);
+
+    boolean existsByTokenHash(String tokenHash);
+
+    // 아직 검증되지 않은 사용자 토큰 (최신순)
+    @Query("""
+            SELECT token.id
+            FROM Token token
+            WHERE token.user.id = :userId
+            AND token.validatedAt IS NULL
+            ORDER BY token.createdAt DESC, token.id DESC
+            """)
+    List<Integer> findUnvalidatedIdsByUserId(@Param("userId") Integer userId);
+
+    // 정리 대상: 검증된 토큰과 만료 후 보존 기간이 지난 토큰
+    @Query("""
+            SELECT token.id
+            FROM Token token
+            WHERE token.validatedAt IS NOT NULL
+            OR token.expiresAt < :expiredBefore
+            """)
+    List<Integer> findSweepableIds(@Param("expiredBefore") LocalDateTime expiredBefore, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            DELETE FROM Token token
+            WHERE token.id IN :ids
+            """)
+    int deleteByIds(@Param("ids") Collection<Integer> ids);
 }
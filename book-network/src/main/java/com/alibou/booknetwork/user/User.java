@@ -3,8 +3,11 @@ package com.alibou.booknetwork.user;
 import com.alibou.booknetwork.book.Book;
 import com.alibou.booknetwork.history.BookTransactionHistory;
 import com.alibou.booknetwork.role.Role;
+import com.alibou.booknetwork.security.UserDetailsCacheListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -40,7 +43,9 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 @Entity
 @Table(name = "_user") // SQL에서 'user'는 예약어이므로 다른 이름 사용
-@EntityListeners(AuditingEntityListener.class) // 자동 감사 기능 활성화
+@EntityListeners({AuditingEntityListener.class, UserDetailsCacheListener.class}) // 자동 감사 기능 활성화, 변경 시 인증 캐시 제거
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user") // 2차 캐시 영역 (CacheConfig)
 public class User implements UserDetails, Principal {
     @Id
     @GeneratedValue
@@ -62,8 +67,10 @@ public class User implements UserDetails, Principal {
      * 
      * EAGER 패치 전략을 사용하여 사용자 로드 시 함께 로드됩니다.
      * 이는 권한 검사가 빈번하게 일어나기 때문에 성능을 위해 설정되었습니다.
+     * 역할 ID 목록은 user.roles 영역에, 각 Role은 role 영역에 캐시됩니다.
      */
     @ManyToMany(fetch = FetchType.EAGER) // 사용자 로드 시 함께 로드됨
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user.roles")
     private List<Role> roles;
 
     /**
@@ -1,9 +1,15 @@
 package com.alibou.booknetwork.user;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
+
+    // 쿼리 캐시에는 ID만 저장되고 User는 2차 캐시에서 조회 (_user 테이블 변경 시 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String username);
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.alibou.booknetwork.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * benchmark 패키지의 JMH 벤치마크를 실행하고 결과를 JSON으로 저장합니다.
+ *
+ * 실행 (book-network 디렉토리에서):
+ * <pre>
+ * ./mvnw -Pbenchmark -DskipTests verify                                  # 전체 실행
+ * ./mvnw -Pbenchmark -DskipTests verify -Djmh.include=JwtServiceBenchmark # 이름(정규식)으로 선택
+ * </pre>
+ * 결과는 target/jmh-result.json(-Djmh.result로 변경)에 저장됩니다.
+ * 커밋 간 비교는 두 JSON 파일에서 벤치마크별 primaryMetric.score(와 scoreError)를 비교합니다.
+ *
+ * 인자: [include 정규식] [결과 파일 경로]
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 && !args[0].isBlank() ? args[0] : BenchmarkRunner.class.getPackageName() + ".*";
+        String result = args.length > 1 && !args[1].isBlank() ? args[1] : "target/jmh-result.json";
+        new Runner(new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .build()).run();
+    }
+}
@@ -0,0 +1,103 @@
+package com.alibou.booknetwork.benchmark;
+
+import com.alibou.booknetwork.book.Book;
+import com.alibou.booknetwork.book.BookMapper;
+import com.alibou.booknetwork.book.BookResponse;
+import com.alibou.booknetwork.file.CoverVariant;
+import com.alibou.booknetwork.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookMapper.toBookResponse 변환 비용
+ *
+ * - withoutCover : 표지가 없는 도서
+ * - coverUrl : 표지가 있는 도서의 목록 응답 (표지는 URL로만 전달, 파일을 읽지 않음)
+ * - inlineCover : 기존 클라이언트 호환 모드. 요청마다 표지 파일(coverBytes 크기)을 디스크에서 읽음
+ *
+ * 파일은 OS 페이지 캐시에 올라가 있으므로 실제 디스크 I/O보다 낮게 측정됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookMapperBenchmark {
+
+    @Param({"65536", "1048576"})
+    private int coverBytes;
+
+    private BookMapper bookMapper;
+    private Book bookWithCover;
+    private Book bookWithoutCover;
+    private Path coverFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        bookMapper = new BookMapper();
+        ReflectionTestUtils.setField(bookMapper, "coverUrlPrefix", "/api/v1/books/cover/");
+
+        byte[] cover = new byte[coverBytes];
+        ThreadLocalRandom.current().nextBytes(cover);
+        coverFile = Files.createTempFile("benchmark-cover", ".jpg");
+        Files.write(coverFile, cover);
+
+        User owner = User.builder().id(1).firstname("Owner").lastname("Tester").build();
+        bookWithCover = book(owner, coverFile.toString());
+        bookWithoutCover = book(owner, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(coverFile);
+    }
+
+    @Benchmark
+    public BookResponse withoutCover() {
+        return bookMapper.toBookResponse(bookWithoutCover);
+    }
+
+    @Benchmark
+    public BookResponse coverUrl() {
+        return bookMapper.toBookResponse(bookWithCover);
+    }
+
+    @Benchmark
+    public BookResponse inlineCover() {
+        return bookMapper.toBookResponse(bookWithCover, CoverVariant.ORIGINAL, true);
+    }
+
+    private static Book book(User owner, String cover) {
+        return Book.builder()
+                .id(1)
+                .title("Benchmark Book")
+                .authorName("Author")
+                .isbn("978-0000000000")
+                .synopsis("Synopsis")
+                .bookCover(cover)
+                .shareable(true)
+                .owner(owner)
+                .ratingSum(42.0)
+                .ratingCount(10)
+                .build();
+    }
+}
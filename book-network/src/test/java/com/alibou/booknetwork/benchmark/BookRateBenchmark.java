@@ -0,0 +1,70 @@
+package com.alibou.booknetwork.benchmark;
+
+import com.alibou.booknetwork.book.Book;
+import com.alibou.booknetwork.feedback.Feedback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Book.getRate() 평점 계산 비용
+ *
+ * - feedbackAverage : 변경 전 방식. 로딩된 feedbacks 컬렉션 전체를 평균 (컬렉션 로딩 쿼리 비용은 제외)
+ * - aggregate : 현재 방식. 집계 컬럼(ratingSum, ratingCount)만으로 계산하므로 피드백 수와 무관
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookRateBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int feedbackCount;
+
+    private Book book;
+
+    @Setup
+    public void setUp() {
+        List<Feedback> feedbacks = new ArrayList<>(feedbackCount);
+        double sum = 0;
+        for (int i = 0; i < feedbackCount; i++) {
+            double note = ThreadLocalRandom.current().nextInt(1, 6);
+            feedbacks.add(Feedback.builder().note(note).build());
+            sum += note;
+        }
+        book = Book.builder()
+                .feedbacks(feedbacks)
+                .ratingSum(sum)
+                .ratingCount(feedbackCount)
+                .build();
+    }
+
+    @Benchmark
+    public double feedbackAverage() {
+        var rate = book.getFeedbacks().stream()
+                .mapToDouble(Feedback::getNote)
+                .average()
+                .orElse(0.0);
+        return Math.round(rate * 10.0) / 10.0;
+    }
+
+    @Benchmark
+    public double aggregate() {
+        return book.getRate();
+    }
+}
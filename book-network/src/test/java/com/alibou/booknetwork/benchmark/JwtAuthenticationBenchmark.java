@@ -0,0 +1,106 @@
+package com.alibou.booknetwork.benchmark;
+
+import com.alibou.booknetwork.security.JwtService;
+import com.alibou.booknetwork.security.UserDetailsServiceImpl;
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtFilter의 요청당 인증 비용 비교
+ *
+ * - legacy: 변경 전 흐름. 비밀 키 디코딩과 파서 생성을 포함한 토큰 파싱 3회 + 사용자 조회
+ * - cached: 미리 만든 서명 키/파서, 검증된 클레임 캐시, 사용자 정보 캐시 사용
+ *
+ * 사용자 조회는 Mockito 스텁이므로 실제 PostgreSQL 왕복(역할 조인 포함) 비용은 포함되지 않습니다.
+ * 실제 환경에서의 차이는 여기에 요청당 DB 왕복 1회가 더해집니다.
+ *
+ * 실행: 테스트 클래스패스에서 main 메소드 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private UserRepository userRepository;
+    private JwtService jwtService;
+    private UserDetailsServiceImpl userDetailsService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id(1)
+                .email("reader@mail.com")
+                .firstname("Reader")
+                .lastname("Tester")
+                .enabled(true)
+                .roles(List.of())
+                .build();
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        jwtService = new JwtService(86_400_000L, SECRET, 10_000, 300);
+        userDetailsService = new UserDetailsServiceImpl(userRepository, 10_000, 60);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        String email = legacyParse(token).getSubject();
+        UserDetails userDetails = userRepository.findByEmail(email).orElseThrow();
+        return legacyParse(token).getSubject().equals(userDetails.getUsername())
+                && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean cached() {
+        Claims claims = jwtService.extractAllClaims(token);
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        return jwtService.isTokenValid(claims, userDetails);
+    }
+
+    private static Claims legacyParse(String token) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
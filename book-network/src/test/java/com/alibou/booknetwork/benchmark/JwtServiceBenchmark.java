@@ -0,0 +1,79 @@
+package com.alibou.booknetwork.benchmark;
+
+import com.alibou.booknetwork.security.JwtService;
+import com.alibou.booknetwork.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtService 개별 연산 비용
+ *
+ * - generateToken : 로그인 시 토큰 생성 (클레임 직렬화 + HMAC 서명)
+ * - extractUsername / isTokenValid : 요청마다 실행. 같은 토큰은 검증된 클레임 캐시에서 조회
+ * - extractUsernameUncached : 캐시 크기 0. 요청마다 서명 검증과 파싱을 다시 수행
+ *
+ * 필터 전체 흐름(사용자 조회 포함) 비교는 JwtAuthenticationBenchmark를 참고하세요.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private JwtService uncachedJwtService;
+    private User user;
+    private Map<String, Object> claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+                .id(1)
+                .email("reader@mail.com")
+                .firstname("Reader")
+                .lastname("Tester")
+                .enabled(true)
+                .roles(List.of())
+                .build();
+        claims = Map.of(JwtService.FULL_NAME_CLAIM, user.fullName(), JwtService.USER_ID_CLAIM, user.getId());
+        jwtService = new JwtService(86_400_000L, SECRET, 10_000, 300);
+        uncachedJwtService = new JwtService(86_400_000L, SECRET, 0, 300);
+        token = jwtService.generateToken(claims, user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(claims, user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public String extractUsernameUncached() {
+        return uncachedJwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+}
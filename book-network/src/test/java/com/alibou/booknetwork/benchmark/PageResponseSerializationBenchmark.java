@@ -0,0 +1,66 @@
+package com.alibou.booknetwork.benchmark;
+
+import com.alibou.booknetwork.book.BookResponse;
+import com.alibou.booknetwork.common.PageResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도서 목록 응답(PageResponse&lt;BookResponse&gt;)의 Jackson 직렬화 비용
+ *
+ * 표지는 URL로만 전달되는 현재 목록 응답 형태를 기준으로 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<BookResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        List<BookResponse> books = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            books.add(BookResponse.builder()
+                    .id(i)
+                    .title("Benchmark Book " + i)
+                    .authorName("Author " + i)
+                    .isbn("978-" + i)
+                    .synopsis("A synopsis long enough to resemble a real book description, number " + i)
+                    .owner("Owner Tester")
+                    .coverUrl("/api/v1/books/cover/" + i + "?size=LIST")
+                    .rate(4.5)
+                    .shareable(true)
+                    .build());
+        }
+        page = new PageResponse<>(books, 0, pageSize, 10_000, 10_000 / pageSize, true, false);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
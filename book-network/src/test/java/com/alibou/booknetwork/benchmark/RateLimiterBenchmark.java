@@ -0,0 +1,85 @@
+package com.alibou.booknetwork.benchmark;
+
+import com.alibou.booknetwork.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimiter.tryAcquire의 요청당 비용
+ *
+ * - sameUser : 4개 스레드가 같은 버킷을 두고 CAS 경쟁 (한 사용자가 몰아서 요청하는 경우)
+ * - manyClients : 4개 스레드가 10,000개 버킷 중 임의의 버킷에 요청 (일반적인 트래픽)
+ * - rejected : 이미 비어 있는 버킷에 요청 (거절 경로)
+ *
+ * 목표는 요청당 1마이크로초보다 충분히 작은 값(수십~수백 나노초)입니다.
+ *
+ * 실행: 테스트 클래스패스에서 main 메소드 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RateLimiterBenchmark {
+    private static final int CLIENTS = 10_000;
+
+    private RateLimiter unlimited;
+    private RateLimiter exhausted;
+    private String[] clientAddresses;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // 측정 중 거절되지 않도록 충분히 큰 버킷
+        unlimited = new RateLimiter("unlimited", Integer.MAX_VALUE, 1_000_000_000,
+                Duration.ofMinutes(10), CLIENTS * 2L, meterRegistry);
+        exhausted = new RateLimiter("exhausted", 1, 0.001,
+                Duration.ofMinutes(10), CLIENTS * 2L, meterRegistry);
+        exhausted.tryAcquire(1);
+        clientAddresses = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientAddresses[i] = "10.0." + (i / 256) + "." + (i % 256);
+            unlimited.tryAcquire(clientAddresses[i]);
+        }
+    }
+
+    @Benchmark
+    public long sameUser() {
+        return unlimited.tryAcquire(42);
+    }
+
+    @Benchmark
+    public long manyClients() {
+        return unlimited.tryAcquire(clientAddresses[ThreadLocalRandom.current().nextInt(CLIENTS)]);
+    }
+
+    @Benchmark
+    public long rejected() {
+        return exhausted.tryAcquire(1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RateLimiterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,220 @@
+package com.alibou.booknetwork.benchmark;
+
+import com.alibou.booknetwork.BookNetworkApiApplication;
+import com.alibou.booknetwork.book.Book;
+import com.alibou.booknetwork.book.BookRepository;
+import com.alibou.booknetwork.security.JwtService;
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled, virtual 프로필)의 처리량/지연 시간 비교 부하 테스트
+ *
+ * 같은 설정으로 애플리케이션을 두 번(플랫폼 → 가상) 띄우고, 인증된 GET /books 요청을 높은 동시성으로 보냅니다.
+ * 데이터베이스는 테스트 설정의 H2(PostgreSQL 호환 모드)를 사용하며, 실제 PostgreSQL 왕복처럼 요청 스레드가 대기하도록
+ * datasource-proxy로 쿼리마다 db-latency-ms만큼 지연시킵니다.
+ * 모드별로 warmup 요청을 먼저 보낸 뒤 requests개의 요청을 측정하여 처리량, p50, p99, 실패 수를 출력합니다.
+ *
+ * 실행 (book-network 디렉토리에서, Java 21 이상 필요):
+ * <pre>
+ * ./mvnw -Pload-test -DskipTests verify
+ * ./mvnw -Pload-test -DskipTests verify -Dloadtest.concurrency=1000 -Dloadtest.db-latency-ms=20
+ * </pre>
+ * 설정 (시스템 프로퍼티): loadtest.concurrency(400), loadtest.requests(20000), loadtest.warmup(2000),
+ * loadtest.db-latency-ms(10), loadtest.pool-size(100), loadtest.tomcat-threads(200)
+ * 가상 스레드 고정(pinning)은 -Djdk.tracePinnedThreads=short로 확인할 수 있습니다(load-test 프로필에 포함).
+ */
+public final class VirtualThreadLoadTest {
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 20_000);
+    private static final int WARMUP = Integer.getInteger("loadtest.warmup", 2_000);
+    private static final long DB_LATENCY_MS = Long.getLong("loadtest.db-latency-ms", 10);
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.pool-size", 100);
+    private static final int TOMCAT_THREADS = Integer.getInteger("loadtest.tomcat-threads", 200);
+    private static final int BOOKS = 50;
+
+    private VirtualThreadLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Runtime.version().feature() < 21) {
+            System.err.println("Virtual threads need Java 21 or later (running " + Runtime.version() + ")");
+            System.exit(1);
+        }
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%nconcurrency=%d requests=%d db-latency=%dms pool=%d tomcat-threads=%d%n",
+                CONCURRENCY, REQUESTS, DB_LATENCY_MS, POOL_SIZE, TOMCAT_THREADS);
+        System.out.printf("%-10s %12s %10s %10s %8s%n", "mode", "req/s", "p50(ms)", "p99(ms)", "errors");
+        platform.print("platform");
+        virtual.print("virtual");
+        System.exit(0);
+    }
+
+    private static Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookNetworkApiApplication.class)
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .addBeanPostProcessor(new SimulatedDatabaseLatency()))
+                .run(
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest_" + mode + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.datasource.hikari.connection-timeout=30000",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "--server.tomcat.accept-count=" + (CONCURRENCY * 2),
+                        "--application.rate-limit.enabled=false",
+                        "--application.metrics.sql-count-header=false",
+                        "--logging.level.root=WARN"
+                )) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String token = seed(context);
+            HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/api/v1/books?page=0&size=10"))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+            // 클라이언트 스레드는 send()에서 대기하므로 HttpClient 내부 작업은 기본 실행기에서 처리
+            ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+            try {
+                fire(httpClient, clients, request, WARMUP);
+                return fire(httpClient, clients, request, REQUESTS);
+            } finally {
+                clients.shutdownNow();
+            }
+        }
+    }
+
+    private static String seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        BookRepository bookRepository = context.getBean(BookRepository.class);
+        User owner = userRepository.save(user("owner"));
+        User reader = userRepository.save(user("reader"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(owner, null, owner.getAuthorities())); // 감사 필드(createdBy)용
+        try {
+            for (int i = 0; i < BOOKS; i++) {
+                bookRepository.save(Book.builder()
+                        .title("Load test book " + i)
+                        .authorName("Author")
+                        .isbn("isbn-" + i)
+                        .synopsis("Synopsis")
+                        .shareable(true)
+                        .owner(owner)
+                        .build());
+            }
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return context.getBean(JwtService.class).generateToken(
+                Map.of(JwtService.USER_ID_CLAIM, reader.getId(), JwtService.FULL_NAME_CLAIM, reader.fullName()), reader);
+    }
+
+    // 동시에 CONCURRENCY개의 클라이언트가 요청이 모두 끝날 때까지 하나씩 보냄
+    private static Result fire(HttpClient httpClient, ExecutorService clients, HttpRequest request, int total)
+            throws Exception {
+        long[] latencies = new long[total];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>(CONCURRENCY);
+        long start = System.nanoTime();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            workers.add(clients.submit(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < total) {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - sent;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new Result(
+                total / (elapsed / (double) TimeUnit.SECONDS.toNanos(1)),
+                latencies[(int) (total * 0.50)] / 1_000_000.0,
+                latencies[Math.min(total - 1, (int) (total * 0.99))] / 1_000_000.0,
+                errors.get()
+        );
+    }
+
+    private static User user(String name) {
+        return User.builder()
+                .firstname(name)
+                .lastname("Tester")
+                .email(name + "@loadtest.com")
+                .password("password")
+                .enabled(true)
+                .roles(List.of())
+                .build();
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis, int errors) {
+        void print(String mode) {
+            System.out.printf("%-10s %12.1f %10.2f %10.2f %8d%n", mode, throughput, p50Millis, p99Millis, errors);
+        }
+    }
+
+    /**
+     * 쿼리마다 DB_LATENCY_MS만큼 대기시켜 원격 PostgreSQL 왕복을 흉내 냅니다.
+     */
+    private static final class SimulatedDatabaseLatency implements BeanPostProcessor {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                return bean;
+            }
+            return ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .beforeQuery((execution, queries) -> {
+                        try {
+                            Thread.sleep(DB_LATENCY_MS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    })
+                    .build();
+        }
+    }
+}
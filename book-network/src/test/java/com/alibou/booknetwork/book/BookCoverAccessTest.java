@@ -0,0 +1,100 @@
+package com.alibou.booknetwork.book;
+
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.alibou.booknetwork.support.TestUsers.as;
+import static com.alibou.booknetwork.support.TestUsers.authenticate;
+import static com.alibou.booknetwork.support.TestUsers.user;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로그인하지 않은 요청은 공유 가능하고 보관되지 않은 도서의 표지만 받고, 그 외 도서는 404를 받는지 검증합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookCoverAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @TempDir
+    private Path coverDirectory;
+
+    private Authentication owner;
+    private Integer publicBookId;
+    private Integer privateBookId;
+    private Integer archivedBookId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        owner = authenticate(userRepository.save(user("owner")));
+        String cover = Files.write(coverDirectory.resolve("cover.jpg"), new byte[]{1, 2, 3}).toString();
+
+        publicBookId = as(owner, () -> saveBook(cover, true, false));
+        privateBookId = as(owner, () -> saveBook(cover, false, false));
+        archivedBookId = as(owner, () -> saveBook(cover, true, true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void anonymousRequestGetsPublicCoverWithSharedCaching() throws Exception {
+        mockMvc.perform(get("/books/cover/{id}", publicBookId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")));
+    }
+
+    @Test
+    void anonymousRequestCannotGetNonShareableOrArchivedCover() throws Exception {
+        mockMvc.perform(get("/books/cover/{id}", privateBookId))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/books/cover/{id}", archivedBookId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void authenticatedRequestGetsNonPublicCoverWithPrivateCaching() throws Exception {
+        mockMvc.perform(get("/books/cover/{id}", privateBookId).with(authentication(owner)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("private")));
+    }
+
+    private Integer saveBook(String cover, boolean shareable, boolean archived) {
+        return bookRepository.save(Book.builder()
+                .title("Covered")
+                .authorName("Author")
+                .isbn("isbn-cover")
+                .synopsis("Synopsis")
+                .bookCover(cover)
+                .shareable(shareable)
+                .archived(archived)
+                .owner((User) owner.getPrincipal())
+                .build()).getId();
+    }
+}
@@ -0,0 +1,147 @@
+package com.alibou.booknetwork.book;
+
+import com.alibou.booknetwork.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.alibou.booknetwork.support.TestUsers.authenticate;
+import static com.alibou.booknetwork.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 도서 일괄 등록이 행별 오류를 보고하고, INSERT를 JDBC 배치로 묶어 전송하는지 검증합니다.
+ * (테스트 설정의 chunk-size: 100, hibernate.jdbc.batch_size: 50)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookImportTest {
+
+    @Autowired
+    private BookImportService bookImportService;
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookSearchTermRepository bookSearchTermRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Authentication owner;
+    private Authentication reader;
+
+    @BeforeEach
+    void setUp() {
+        owner = authenticate(userRepository.save(user("importer")));
+        reader = authenticate(userRepository.save(user("reader")));
+        SecurityContextHolder.getContext().setAuthentication(owner); // 감사 필드(createdBy)용
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        bookSearchTermRepository.deleteAll();
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void csvRowsAreValidatedAndReportedByLine() throws Exception {
+        String csv = """
+                title,authorName,isbn,synopsis,shareable
+                "Dune, Part One",Frank Herbert,978-0-441-17271-9,"Desert ""spice"" planet",true
+                ,Missing Title,111,Synopsis,false
+
+                "Multi
+                line",Author,222,Synopsis,true
+                "Unterminated,Author,333,Synopsis,true
+                """;
+        List<BookImportEvent> events = new ArrayList<>();
+
+        BookImportEvent summary = bookImportService.importBooks(
+                new StringReader(csv), BookImportFormat.CSV, owner, events::add);
+
+        assertThat(summary).isEqualTo(BookImportEvent.summary(4, 2, 2));
+        assertThat(events).filteredOn(event -> event.type().equals("error"))
+                .extracting(BookImportEvent::line)
+                .containsExactly(3L, 7L);
+        assertThat(events.get(0).errors()).containsExactly("title: 100");
+        assertThat(bookRepository.findAll()).extracting(Book::getTitle, Book::getSynopsis)
+                .containsExactlyInAnyOrder(
+                        tuple("Dune, Part One", "Desert \"spice\" planet"),
+                        tuple("Multi\nline", "Synopsis"));
+    }
+
+    @Test
+    void insertsAreSentInJdbcBatches() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 250; i++) {
+            ndjson.append("""
+                    {"title":"Book %d","authorName":"Author","isbn":"isbn-%d","synopsis":"Synopsis","shareable":true}
+                    """.formatted(i, i));
+        }
+        ndjson.append("{not json}\n");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<BookImportEvent> events = new ArrayList<>();
+
+        BookImportEvent summary = bookImportService.importBooks(
+                new StringReader(ndjson.toString()), BookImportFormat.NDJSON, owner, events::add);
+
+        assertThat(summary).isEqualTo(BookImportEvent.summary(251, 250, 1));
+        assertThat(events).filteredOn(event -> event.type().equals("progress")).hasSize(3);
+        assertThat(events).filteredOn(event -> event.type().equals("error"))
+                .singleElement()
+                .satisfies(event -> assertThat(event.line()).isEqualTo(251L));
+        long insertedRows = statistics.getEntityInsertCount();
+        assertThat(insertedRows).isGreaterThan(250 * 4); // 도서 + 검색 색인 항목
+        // 행마다 INSERT를 준비하지 않고 배치당 한 번만 준비함 (시퀀스 조회 포함)
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(insertedRows / 10);
+        // 일괄 등록한 도서도 검색 색인에 포함됨
+        assertThat(bookService.searchBooks("isbn-249", 0, 1, reader).getContent())
+                .extracting(BookResponse::getTitle)
+                .containsExactly("Book 249");
+    }
+
+    @Test
+    void importEndpointStreamsNdjsonEvents() throws Exception {
+        String csv = """
+                title,authorName,isbn,synopsis,shareable
+                Book,Author,444,Synopsis,true
+                """;
+
+        mockMvc.perform(post("/books/import")
+                        .with(authentication(owner))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string("""
+                        {"type":"progress","processed":1,"imported":1,"failed":0}
+                        {"type":"summary","processed":1,"imported":1,"failed":0}
+                        """));
+    }
+}
@@ -0,0 +1,131 @@
+package com.alibou.booknetwork.book;
+
+import com.alibou.booknetwork.common.Cursor;
+import com.alibou.booknetwork.common.CursorResponse;
+import com.alibou.booknetwork.common.PageResponse;
+import com.alibou.booknetwork.feedback.FeedBackRepository;
+import com.alibou.booknetwork.feedback.Feedback;
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.stream.Stream;
+
+import static com.alibou.booknetwork.support.TestUsers.authenticate;
+import static com.alibou.booknetwork.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서 목록 조회가 도서 수와 무관하게 페이지당 고정된 수의 SQL만 실행하는지 검증합니다.
+ * (페이지 기반: 프로젝션 조회 1회 + 전체 개수 조회 1회, 커서 기반: 조회 1회)
+ */
+@SpringBootTest
+class BookListingQueryCountTest {
+    private static final int BOOKS_PER_OWNER = 6;
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private FeedBackRepository feedBackRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Authentication owner;
+    private Authentication reader;
+
+    @BeforeEach
+    void setUp() {
+        owner = authenticate(userRepository.save(user("owner")));
+        reader = authenticate(userRepository.save(user("reader")));
+
+        SecurityContextHolder.getContext().setAuthentication(owner);
+        for (int i = 0; i < BOOKS_PER_OWNER; i++) {
+            Book book = bookRepository.save(Book.builder()
+                    .title("Book " + i)
+                    .authorName("Author " + i)
+                    .isbn("isbn-" + i)
+                    .synopsis("Synopsis " + i)
+                    .shareable(true)
+                    .owner((User) owner.getPrincipal())
+                    .build());
+            SecurityContextHolder.getContext().setAuthentication(reader);
+            feedBackRepository.save(Feedback.builder().note(4.0).comment("good").book(book).build());
+            bookRepository.addRating(book.getId(), 4.0);
+            SecurityContextHolder.getContext().setAuthentication(owner);
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedBackRepository.deleteAll();
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void displayableBooksPageUsesConstantNumberOfStatements() {
+        Statistics statistics = clearedStatistics();
+
+        PageResponse<BookResponse> page = bookService.findAllBooks(0, PAGE_SIZE, reader);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(BOOKS_PER_OWNER);
+        assertThat(page.getContent()).allSatisfy(book -> {
+            assertThat(book.getOwner()).isEqualTo("owner Tester");
+            assertThat(book.getRate()).isEqualTo(4.0);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void ownerBooksPageUsesConstantNumberOfStatements() {
+        Statistics statistics = clearedStatistics();
+
+        PageResponse<BookResponse> page = bookService.findAllBooksByOwner(0, PAGE_SIZE, owner);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(BOOKS_PER_OWNER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void cursorPagesWalkAllBooksWithoutCountQuery() {
+        Statistics statistics = clearedStatistics();
+
+        CursorResponse<BookResponse> first = bookService.findAllBooks(null, PAGE_SIZE, reader);
+        CursorResponse<BookResponse> second = bookService.findAllBooks(
+                Cursor.valueOf(first.getNextCursor()), PAGE_SIZE, reader);
+
+        assertThat(first.getContent()).hasSize(PAGE_SIZE);
+        assertThat(first.isLast()).isFalse();
+        assertThat(second.getContent()).hasSize(BOOKS_PER_OWNER - PAGE_SIZE);
+        assertThat(second.isLast()).isTrue();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(Stream.concat(first.getContent().stream(), second.getContent().stream()).map(BookResponse::getId))
+                .doesNotHaveDuplicates()
+                .hasSize(BOOKS_PER_OWNER);
+        // 페이지마다 조회 1회, COUNT 없음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Statistics clearedStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,118 @@
+package com.alibou.booknetwork.book;
+
+import com.alibou.booknetwork.common.PageResponse;
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static com.alibou.booknetwork.support.TestUsers.authenticate;
+import static com.alibou.booknetwork.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 색인 기반 도서 검색이 관련도 순으로 정렬되고, 저장 시 색인이 갱신되는지 검증합니다.
+ */
+@SpringBootTest
+class BookSearchTest {
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookSearchIndexer bookSearchIndexer;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookSearchTermRepository bookSearchTermRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Authentication owner;
+    private Authentication reader;
+
+    @BeforeEach
+    void setUp() {
+        owner = authenticate(userRepository.save(user("owner")));
+        reader = authenticate(userRepository.save(user("reader")));
+        SecurityContextHolder.getContext().setAuthentication(owner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        bookSearchTermRepository.deleteAll();
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void resultsAreRankedByMatchedTermsAndFieldWeight() {
+        Integer synopsisOnly = save("Cooking at Home", "Jane Doe", "111", "A dune-inspired menu", true);
+        Integer titleMatch = save("Dune", "Frank Herbert", "978-0-441-17271-9", "Desert planet epic", true);
+        Integer bothTerms = save("Dune Messiah", "Frank Herbert", "978-0-593-09823-5", "Sequel", true);
+        save("Dune Notes", "Owner Only", "222", "Not shared", false);
+
+        PageResponse<BookResponse> page = bookService.searchBooks("dune herbert", 0, 10, reader);
+
+        assertThat(page.getContent()).extracting(BookResponse::getId)
+                .containsExactly(bothTerms, titleMatch, synopsisOnly);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent().get(0).getOwner()).isEqualTo("owner Tester");
+    }
+
+    @Test
+    void searchUsesConstantNumberOfStatementsAndMatchesIsbn() {
+        for (int i = 0; i < 12; i++) {
+            save("Physics " + i, "Author " + i, "isbn-" + i, "Synopsis " + i, true);
+        }
+        Integer isbnMatch = save("Chemistry", "Someone", "978-3-16-148410-0", "Atoms", true);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PageResponse<BookResponse> page = bookService.searchBooks("physics", 1, 5, reader);
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(12);
+        // 순위 조회 + 전체 개수 조회 + 도서 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(bookService.searchBooks("9783161484100", 0, 5, reader).getContent())
+                .extracting(BookResponse::getId)
+                .containsExactly(isbnMatch);
+    }
+
+    @Test
+    void indexFollowsUpdatesAndBackfillsUnindexedBooks() {
+        Integer bookId = save("Old Title", "Author", "333", "Synopsis", true);
+        bookService.save(new BookRequest(bookId, "New Title", "Author", "333", "Synopsis", true), owner);
+
+        assertThat(bookService.searchBooks("old", 0, 10, reader).getContent()).isEmpty();
+        assertThat(bookService.searchBooks("new title", 0, 10, reader).getContent()).hasSize(1);
+
+        // 색인 없이 저장된 도서 (색인 도입 이전 데이터)
+        Integer legacyId = bookRepository.save(Book.builder()
+                .title("Legacy Catalogue")
+                .shareable(true)
+                .owner((User) owner.getPrincipal())
+                .build()).getId();
+        assertThat(bookService.searchBooks("legacy", 0, 10, reader).getContent()).isEmpty();
+
+        assertThat(bookSearchIndexer.indexMissingBooks()).isEqualTo(1);
+        assertThat(bookService.searchBooks("legacy", 0, 10, reader).getContent())
+                .extracting(BookResponse::getId)
+                .containsExactly(legacyId);
+    }
+
+    private Integer save(String title, String author, String isbn, String synopsis, boolean shareable) {
+        return bookService.save(new BookRequest(null, title, author, isbn, synopsis, shareable), owner);
+    }
+}
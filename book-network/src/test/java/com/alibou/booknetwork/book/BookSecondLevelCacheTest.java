@@ -0,0 +1,136 @@
+package com.alibou.booknetwork.book;
+
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static com.alibou.booknetwork.support.TestUsers.authenticate;
+import static com.alibou.booknetwork.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서/사용자 조회가 2차 캐시에서 처리되고, 엔티티 수정과 부분 UPDATE 후에는 최신 값이 조회되며 부분 UPDATE는 해당 도서의 캐시 항목만 제거하는지 검증합니다.
+ */
+@SpringBootTest
+class BookSecondLevelCacheTest {
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Integer bookId;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(authenticate(userRepository.save(user("owner"))));
+        bookId = saveBook("Cached", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void repeatedBookLookupIsServedFromCache() {
+        bookService.findById(bookId, false); // 캐시 적재
+        Statistics statistics = clearedStatistics();
+
+        BookResponse book = bookService.findById(bookId, false);
+
+        assertThat(book.getTitle()).isEqualTo("Cached");
+        assertThat(book.getOwner()).isEqualTo("owner Tester");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("book").getHitCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", "book").gauge().value()).isGreaterThan(0.0);
+    }
+
+    @Test
+    void entityUpdateIsVisibleOnNextLookup() {
+        bookService.findById(bookId, false);
+        Book book = bookRepository.findById(bookId).orElseThrow();
+        book.setTitle("Renamed");
+        bookRepository.save(book);
+
+        assertThat(bookService.findById(bookId, false).getTitle()).isEqualTo("Renamed");
+    }
+
+    @Test
+    void ratingUpdateEvictsOnlyThatBook() {
+        Integer otherBookId = saveBook("Other", null);
+        bookService.findById(bookId, false);
+        bookService.findById(otherBookId, false);
+
+        bookRepository.addRating(bookId, 5.0);
+
+        assertThat(entityManagerFactory.getCache().contains(Book.class, bookId)).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(Book.class, otherBookId)).isTrue();
+        assertThat(bookService.findById(bookId, false).getRate()).isEqualTo(5.0);
+        Statistics statistics = clearedStatistics();
+        assertThat(bookService.findById(otherBookId, false).getTitle()).isEqualTo("Other");
+        assertThat(statistics.getDomainDataRegionStatistics("book").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void coverReadyUpdateEvictsOnlyThatBook() {
+        Integer coveredBookId = saveBook("Covered", "cover.jpg");
+        bookService.findById(bookId, false);
+        bookService.findById(coveredBookId, false);
+
+        assertThat(bookRepository.markCoverVariantsReady(coveredBookId, "cover.jpg")).isEqualTo(1);
+
+        assertThat(entityManagerFactory.getCache().contains(Book.class, coveredBookId)).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(Book.class, bookId)).isTrue();
+        Book covered = bookRepository.findById(coveredBookId).orElseThrow();
+        assertThat(covered.isListCoverReady()).isTrue();
+        assertThat(covered.isDetailCoverReady()).isTrue();
+    }
+
+    @Test
+    void emailLookupUsesQueryCache() {
+        userRepository.findByEmail("owner@mail.com"); // 캐시 적재
+        Statistics statistics = clearedStatistics();
+
+        assertThat(userRepository.findByEmail("owner@mail.com")).isPresent();
+
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private Integer saveBook(String title, String bookCover) {
+        User owner = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return bookRepository.save(Book.builder()
+                .title(title)
+                .authorName("Author")
+                .isbn("isbn-" + title)
+                .synopsis("Synopsis")
+                .bookCover(bookCover)
+                .shareable(true)
+                .owner(owner)
+                .build()).getId();
+    }
+
+    private Statistics clearedStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
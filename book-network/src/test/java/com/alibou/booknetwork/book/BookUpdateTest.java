@@ -0,0 +1,107 @@
+package com.alibou.booknetwork.book;
+
+import com.alibou.booknetwork.exception.OperationNotPermittedException;
+import com.alibou.booknetwork.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static com.alibou.booknetwork.support.TestUsers.authenticate;
+import static com.alibou.booknetwork.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 도서 수정이 편집 가능한 필드만 바꾸고, 평점 집계와 표지, 보관 상태는 유지하는지 검증합니다.
+ */
+@SpringBootTest
+class BookUpdateTest {
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookSearchTermRepository bookSearchTermRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Authentication owner;
+    private Authentication stranger;
+    private Integer bookId;
+
+    @BeforeEach
+    void setUp() {
+        owner = authenticate(userRepository.save(user("owner")));
+        stranger = authenticate(userRepository.save(user("stranger")));
+        SecurityContextHolder.getContext().setAuthentication(owner);
+        bookId = bookService.save(new BookRequest(null, "Original", "Author", "isbn-1", "Synopsis", true), owner);
+        Book book = bookRepository.findById(bookId).orElseThrow();
+        book.setBookCover("cover.jpg");
+        book.setDetailCoverReady(true);
+        book.setArchived(true);
+        bookRepository.save(book);
+        SecurityContextHolder.clearContext();
+
+        bookRepository.addRating(bookId, 5.0);
+        bookRepository.addRating(bookId, 3.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookSearchTermRepository.deleteAll();
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void updatingRatedBookKeepsRatingAndCover() {
+        SecurityContextHolder.getContext().setAuthentication(owner);
+        Integer updatedId = bookService.save(new BookRequest(bookId, "Renamed", "Other Author", "isbn-2", "New synopsis", false), owner);
+        SecurityContextHolder.clearContext();
+
+        Book book = bookRepository.findById(updatedId).orElseThrow();
+        assertThat(updatedId).isEqualTo(bookId);
+        assertThat(book.getTitle()).isEqualTo("Renamed");
+        assertThat(book.getAuthorName()).isEqualTo("Other Author");
+        assertThat(book.getIsbn()).isEqualTo("isbn-2");
+        assertThat(book.getSynopsis()).isEqualTo("New synopsis");
+        assertThat(book.isShareable()).isFalse();
+        assertThat(book.getRatingSum()).isEqualTo(8.0);
+        assertThat(book.getRatingCount()).isEqualTo(2);
+        assertThat(book.getRate()).isEqualTo(4.0);
+        assertThat(book.getBookCover()).isEqualTo("cover.jpg");
+        assertThat(book.isDetailCoverReady()).isTrue();
+        assertThat(book.isArchived()).isTrue();
+    }
+
+    @Test
+    void savingStaleEntityDoesNotOverwriteRating() {
+        SecurityContextHolder.getContext().setAuthentication(owner);
+        Book stale = bookRepository.findById(bookId).orElseThrow();
+        bookRepository.addRating(bookId, 1.0);
+        stale.setTitle("Stale");
+        bookRepository.save(stale);
+        SecurityContextHolder.clearContext();
+
+        Book book = bookRepository.findById(bookId).orElseThrow();
+        assertThat(book.getTitle()).isEqualTo("Stale");
+        assertThat(book.getRatingSum()).isEqualTo(9.0);
+        assertThat(book.getRatingCount()).isEqualTo(3);
+    }
+
+    @Test
+    void othersCannotUpdateBook() {
+        BookRequest request = new BookRequest(bookId, "Hijacked", "Author", "isbn-1", "Synopsis", true);
+
+        SecurityContextHolder.getContext().setAuthentication(stranger);
+        assertThatThrownBy(() -> bookService.save(request, stranger))
+                .isInstanceOf(OperationNotPermittedException.class);
+        SecurityContextHolder.clearContext();
+        assertThat(bookRepository.findById(bookId).orElseThrow().getTitle()).isEqualTo("Original");
+    }
+}
@@ -0,0 +1,124 @@
+package com.alibou.booknetwork.book;
+
+import com.alibou.booknetwork.exception.OperationNotPermittedException;
+import com.alibou.booknetwork.history.ActiveLoanRepository;
+import com.alibou.booknetwork.history.BookTransactionHistoryRepository;
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.alibou.booknetwork.support.TestUsers.authenticate;
+import static com.alibou.booknetwork.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 사용자가 같은 도서들을 동시에 대여할 때 도서마다 정확히 한 명만 성공하는지 검증하고, 처리량을 로그로 남깁니다.
+ */
+@Slf4j
+@SpringBootTest
+class BorrowConcurrencyTest {
+    private static final int BOOKS = 20;
+    private static final int BORROWERS = 8;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookTransactionHistoryRepository transactionHistoryRepository;
+    @Autowired
+    private ActiveLoanRepository activeLoanRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Integer> bookIds = new ArrayList<>();
+    private final List<Authentication> borrowers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Authentication owner = authenticate(userRepository.save(user("lender")));
+        SecurityContextHolder.getContext().setAuthentication(owner);
+        for (int i = 0; i < BOOKS; i++) {
+            bookIds.add(bookRepository.save(Book.builder()
+                    .title("Book " + i)
+                    .shareable(true)
+                    .owner((User) owner.getPrincipal())
+                    .build()).getId());
+        }
+        SecurityContextHolder.clearContext();
+        for (int i = 0; i < BORROWERS; i++) {
+            borrowers.add(authenticate(userRepository.save(user("borrower" + i))));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        activeLoanRepository.deleteAll();
+        transactionHistoryRepository.deleteAll();
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void exactlyOneBorrowerWinsEachBook() throws Exception {
+        Map<Integer, AtomicInteger> winners = new ConcurrentHashMap<>();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(BORROWERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Authentication borrower : borrowers) {
+            List<Integer> order = new ArrayList<>(bookIds);
+            Collections.shuffle(order);
+            futures.add(executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(borrower); // 감사 필드(createdBy)용
+                start.await();
+                for (Integer bookId : order) {
+                    try {
+                        bookService.borrowBook(bookId, borrower);
+                        winners.computeIfAbsent(bookId, id -> new AtomicInteger()).incrementAndGet();
+                    } catch (OperationNotPermittedException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        int attempts = BOOKS * BORROWERS;
+        log.info("Borrow stress: {} attempts by {} threads in {} ms ({} attempts/s)",
+                attempts, BORROWERS, elapsedNanos / 1_000_000, Math.round(attempts / (elapsedNanos / 1e9)));
+
+        assertThat(winners).hasSize(BOOKS);
+        assertThat(winners.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(rejected.get()).isEqualTo(attempts - BOOKS);
+        assertThat(activeLoanRepository.count()).isEqualTo(BOOKS);
+        assertThat(transactionHistoryRepository.count()).isEqualTo(BOOKS);
+    }
+}
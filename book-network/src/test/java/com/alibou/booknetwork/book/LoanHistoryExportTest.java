@@ -0,0 +1,139 @@
+package com.alibou.booknetwork.book;
+
+import com.alibou.booknetwork.history.ActiveLoanRepository;
+import com.alibou.booknetwork.history.BookTransactionHistoryArchiveRepository;
+import com.alibou.booknetwork.history.BookTransactionHistoryRepository;
+import com.alibou.booknetwork.history.LoanHistoryArchiveJob;
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.alibou.booknetwork.support.TestUsers.authenticate;
+import static com.alibou.booknetwork.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 대여 내역 내보내기가 진행 중인 내역과 보관된 내역을 키셋 묶음 단위로 끊김 없이 출력하는지 검증합니다.
+ * (테스트 설정의 loan-export.batch-size: 2)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class LoanHistoryExportTest {
+    private static final int BOOKS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private LoanHistoryArchiveJob loanHistoryArchiveJob;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookTransactionHistoryRepository transactionHistoryRepository;
+    @Autowired
+    private BookTransactionHistoryArchiveRepository archiveRepository;
+    @Autowired
+    private ActiveLoanRepository activeLoanRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Authentication owner;
+    private Authentication borrower;
+    private final List<Integer> bookIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = authenticate(userRepository.save(user("lender")));
+        borrower = authenticate(userRepository.save(user("borrower")));
+        SecurityContextHolder.getContext().setAuthentication(owner); // 감사 필드(createdBy)용
+        for (int i = 0; i < BOOKS; i++) {
+            bookIds.add(bookRepository.save(Book.builder()
+                    .title(i == 0 ? "Dune, \"Part One\"" : "Book " + i)
+                    .authorName("Author")
+                    .isbn("isbn-" + i)
+                    .shareable(true)
+                    .owner((User) owner.getPrincipal())
+                    .build()).getId());
+        }
+        SecurityContextHolder.getContext().setAuthentication(borrower);
+        for (Integer bookId : bookIds) {
+            bookService.borrowBook(bookId, borrower);
+        }
+        bookService.returnBorrowedBook(bookIds.get(0), borrower);
+        SecurityContextHolder.getContext().setAuthentication(owner);
+        bookService.approveReturnBorrowedBook(bookIds.get(0), owner);
+        SecurityContextHolder.clearContext();
+        loanHistoryArchiveJob.archiveCompletedLoans();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        activeLoanRepository.deleteAll();
+        archiveRepository.deleteAll();
+        transactionHistoryRepository.deleteAll();
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void borrowedBooksAreExportedAsNdjsonAcrossBatches() throws Exception {
+        String body = mockMvc.perform(get("/books/borrowed/export").with(authentication(borrower)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+        // 최신순: 마지막에 대여한 도서부터, 보관된 첫 도서의 내역이 마지막
+        List<Integer> newestFirst = new ArrayList<>(bookIds);
+        Collections.reverse(newestFirst);
+        assertThat(rows).extracting(row -> row.get("bookId").asInt())
+                .containsExactlyElementsOf(newestFirst);
+        assertThat(rows.get(BOOKS - 1).get("returnApproved").asBoolean()).isTrue();
+        assertThat(rows.get(BOOKS - 1).get("title").asText()).isEqualTo("Dune, \"Part One\"");
+        assertThat(archiveRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void lentBooksAreExportedAsCsv() throws Exception {
+        String body = mockMvc.perform(get("/books/returned/export")
+                        .param("format", "CSV")
+                        .with(authentication(owner)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(BOOKS + 1);
+        assertThat(lines[0]).isEqualTo("id,bookId,title,authorName,isbn,returned,returnApproved,createdDate");
+        assertThat(lines[BOOKS]).contains(",\"Dune, \"\"Part One\"\"\",Author,isbn-0,true,true,");
+        assertThat(mockMvc.perform(get("/books/returned/export")
+                        .param("format", "xml")
+                        .with(authentication(owner)))
+                .andReturn().getResponse().getStatus()).isEqualTo(400);
+    }
+}
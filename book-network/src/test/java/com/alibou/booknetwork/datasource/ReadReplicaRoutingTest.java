@@ -0,0 +1,142 @@
+package com.alibou.booknetwork.datasource;
+
+import com.alibou.booknetwork.book.Book;
+import com.alibou.booknetwork.book.BookRepository;
+import com.alibou.booknetwork.book.BookService;
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.alibou.booknetwork.support.TestUsers.as;
+import static com.alibou.booknetwork.support.TestUsers.authenticate;
+import static com.alibou.booknetwork.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 쓰기 트랜잭션은 기본 DB로 가고, 복제 지연이 크거나 확인에 실패하면 기본 DB로 읽는지 검증합니다.
+ * 두 개의 인메모리 H2 데이터베이스에 서로 다른 표시 값을 넣어 어느 DB에서 읽었는지 구분합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "application.datasource.replica.enabled=true",
+        "application.datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "application.datasource.replica.max-lag-ms=1000",
+        "application.datasource.replica.lag-query=SELECT lag_ms FROM replica_lag",
+        "application.datasource.replica.check-initial-delay-ms=3600000" // 테스트에서는 ReadReplica.checkLag를 직접 호출
+})
+class ReadReplicaRoutingTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private ReadReplica readReplica;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE db_marker (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO db_marker VALUES ('primary')");
+        replica.execute("CREATE TABLE db_marker (name VARCHAR(16))");
+        replica.update("INSERT INTO db_marker VALUES ('replica')");
+        replica.execute("CREATE TABLE replica_lag (lag_ms BIGINT)");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE db_marker");
+        replica.execute("DROP TABLE IF EXISTS db_marker");
+        replica.execute("DROP TABLE IF EXISTS replica_lag");
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaAndWritesUsePrimary() {
+        assertThat(readReplica.checkLag()).isTrue();
+
+        assertThat(readMarker(true)).isEqualTo("replica");
+        assertThat(readMarker(false)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM db_marker", String.class)).isEqualTo("primary");
+        assertThat(meterRegistry.get("hikaricp.connections").tag("pool", ReadReplica.POOL_NAME).gauge()).isNotNull();
+        assertThat(meterRegistry.get("db.replica.available").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimaryUntilItCatchesUp() {
+        double fallbacks = meterRegistry.get("db.replica.fallbacks").counter().count();
+        replica.update("UPDATE replica_lag SET lag_ms = 5000");
+
+        assertThat(readReplica.checkLag()).isFalse();
+        assertThat(readMarker(true)).isEqualTo("primary");
+        assertThat(meterRegistry.get("db.replica.lag").gauge().value()).isEqualTo(5000.0);
+        assertThat(meterRegistry.get("db.replica.available").gauge().value()).isZero();
+        assertThat(meterRegistry.get("db.replica.fallbacks").counter().count()).isEqualTo(fallbacks + 1);
+
+        replica.update("UPDATE replica_lag SET lag_ms = 200");
+
+        assertThat(readReplica.checkLag()).isTrue();
+        assertThat(readMarker(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void failedLagCheckFallsBackToPrimary() {
+        assertThat(readReplica.checkLag()).isTrue();
+        replica.execute("DROP TABLE replica_lag");
+
+        assertThat(readReplica.checkLag()).isFalse();
+        assertThat(readMarker(true)).isEqualTo("primary");
+        assertThat(meterRegistry.get("db.replica.lag").gauge().value()).isEqualTo(-1.0);
+    }
+
+    @Test
+    void readModifyWriteServiceMethodReadsFromPrimary() {
+        Authentication owner = authenticate(userRepository.save(user("owner")));
+        try {
+            Integer bookId = as(owner, () -> bookRepository.save(Book.builder()
+                    .title("Routed")
+                    .authorName("Author")
+                    .isbn("isbn-routed")
+                    .synopsis("Synopsis")
+                    .shareable(true)
+                    .owner((User) owner.getPrincipal())
+                    .build()).getId());
+            assertThat(readReplica.checkLag()).isTrue();
+
+            // 복제본에는 book 테이블이 없으므로 조회가 복제본으로 가면 실패함
+            as(owner, () -> bookService.updateArchivedStatus(bookId, owner));
+
+            assertThat(jdbcTemplate.queryForObject("SELECT archived FROM book WHERE id = ?", Boolean.class, bookId)).isTrue();
+        } finally {
+            bookRepository.deleteAll();
+            userRepository.deleteAll();
+        }
+    }
+
+    private String readMarker(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM db_marker", String.class));
+    }
+}
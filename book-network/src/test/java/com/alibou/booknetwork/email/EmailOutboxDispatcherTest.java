@@ -0,0 +1,129 @@
+package com.alibou.booknetwork.email;
+
+import com.alibou.booknetwork.auth.AuthenticationService;
+import com.alibou.booknetwork.auth.RegisterationRequest;
+import com.alibou.booknetwork.user.TokenRepository;
+import com.alibou.booknetwork.user.UserRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이메일 발송 대기열이 인프로세스 SMTP 서버(GreenMail)로 발송되고, 실패 시 백오프로 재시도되는지 검증합니다.
+ * (테스트 설정의 max-attempts: 3, batch-size: 2)
+ */
+@SpringBootTest
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private AuthenticationService authenticationService;
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+    @Autowired
+    private TokenRepository tokenRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EmailService emailService;
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        tokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void registrationEmailIsQueuedAndDeliveredByDispatcher() throws Exception {
+        authenticationService.register(RegisterationRequest.builder()
+                .firstname("Outbox")
+                .lastname("Tester")
+                .email("outbox@mail.com")
+                .password("password123")
+                .build());
+
+        EmailOutboxMessage queued = outboxRepository.findAll().get(0);
+        assertThat(queued.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+
+        assertThat(dispatcher.dispatchDueMessages()).isEqualTo(1);
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getSubject()).isEqualTo("Account activation");
+        assertThat(GreenMailUtil.getBody(received[0])).contains(queued.getActivationCode());
+        EmailOutboxMessage sent = outboxRepository.findById(queued.getId()).orElseThrow();
+        assertThat(sent.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(sent.getClaimToken()).isNull();
+    }
+
+    @Test
+    void batchesAreDeliveredOverPooledWorkers() {
+        for (int i = 0; i < 5; i++) {
+            queue("bulk" + i + "@mail.com");
+        }
+
+        // 한 번에 워커 수(2) x 묶음 크기(2)만큼만 가져감
+        assertThat(dispatcher.dispatchDueMessages()).isEqualTo(4);
+        assertThat(dispatcher.dispatchDueMessages()).isEqualTo(1);
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+        assertThat(outboxRepository.countByStatus(EmailOutboxStatus.SENT)).isEqualTo(5);
+    }
+
+    @Test
+    void failedDeliveryIsRetriedWithBackoffUntilMaxAttempts() {
+        queue("retry@mail.com");
+        greenMail.stop();
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchDueMessages();
+
+        EmailOutboxMessage retrying = outboxRepository.findAll().get(0);
+        assertThat(retrying.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(retrying.getAttempts()).isEqualTo(1);
+        assertThat(retrying.getNextAttemptAt()).isAfter(before.plusSeconds(29));
+        assertThat(retrying.getLastError()).isNotBlank();
+        // 백오프 대기 중에는 다시 가져가지 않음
+        assertThat(dispatcher.dispatchDueMessages()).isZero();
+
+        makeDue(retrying);
+        dispatcher.dispatchDueMessages();
+        makeDue(outboxRepository.findById(retrying.getId()).orElseThrow());
+        dispatcher.dispatchDueMessages();
+        EmailOutboxMessage failed = outboxRepository.findById(retrying.getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(3);
+
+        // 메일 서버가 복구되면 대기 중인 항목은 정상 발송됨
+        greenMail.start();
+        queue("recovered@mail.com");
+        dispatcher.dispatchDueMessages();
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    private void queue(String to) {
+        emailService.queueEmail(to, "Tester", EmailTemplateName.ACTIVATE_ACCOUNT,
+                "http://localhost:4200/activate-account", "123456", "Account activation");
+    }
+
+    private void makeDue(EmailOutboxMessage message) {
+        message.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxRepository.save(message);
+    }
+}
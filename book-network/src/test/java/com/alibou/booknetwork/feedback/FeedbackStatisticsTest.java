@@ -0,0 +1,158 @@
+package com.alibou.booknetwork.feedback;
+
+import com.alibou.booknetwork.book.Book;
+import com.alibou.booknetwork.book.BookRepository;
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static com.alibou.booknetwork.support.TestUsers.as;
+import static com.alibou.booknetwork.support.TestUsers.authenticate;
+import static com.alibou.booknetwork.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * 피드백 통계가 저장 시 증가로 유지되고, 통계 행이 없는 도서는 조회가 아닌 피드백 저장과 백필에서 feedback 테이블로 다시 계산되는지 검증합니다.
+ * (테스트 설정의 feedback-statistics.recent-weight: 0.5 → 재계산 시 최신 3개 평점 평균으로 시작)
+ */
+@SpringBootTest
+class FeedbackStatisticsTest {
+
+    @Autowired
+    private FeedbackService feedbackService;
+    @Autowired
+    private FeedbackStatisticsService statisticsService;
+    @Autowired
+    private FeedbackStatisticsBackfillJob backfillJob;
+    @Autowired
+    private FeedbackStatisticsRepository statisticsRepository;
+    @Autowired
+    private FeedBackRepository feedBackRepository;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Authentication reader;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        Authentication owner = authenticate(userRepository.save(user("owner")));
+        reader = authenticate(userRepository.save(user("reader")));
+        book = as(owner, () -> bookRepository.save(Book.builder()
+                .title("Rated")
+                .shareable(true)
+                .owner((User) owner.getPrincipal())
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        statisticsRepository.deleteAll();
+        feedBackRepository.deleteAll();
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void savedFeedbackUpdatesStatisticsIncrementally() {
+        giveFeedback(5.0);
+        giveFeedback(4.6);
+        giveFeedback(1.0);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        FeedbackStatisticsResponse response = statisticsService.findByBookId(book.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1); // 기본 키 조회 한 번
+        assertThat(response.getCount()).isEqualTo(3);
+        assertThat(response.getDistribution()).containsExactly(
+                entry(1, 1L), entry(2, 0L), entry(3, 0L), entry(4, 0L), entry(5, 2L));
+        assertThat(response.getAverage()).isEqualTo(3.5); // 10.6 / 3
+        assertThat(response.getRecentAverage()).isEqualTo(2.9); // 5 → 4.8 → 2.9
+        assertThat(response.getTrend()).isEqualTo(-0.6);
+    }
+
+    @Test
+    void lookupDoesNotRebuildAndBackfillBuildsFromFeedback() {
+        giveLegacyFeedback(2.0, 3.0, 4.0, 4.6);
+
+        FeedbackStatisticsResponse beforeBackfill = statisticsService.findByBookId(book.getId());
+
+        assertThat(beforeBackfill.getCount()).isZero();
+        assertThat(statisticsRepository.existsById(book.getId())).isFalse(); // 조회는 통계 행을 만들지 않음
+
+        backfillJob.backfill();
+        FeedbackStatisticsResponse rebuilt = statisticsService.findByBookId(book.getId());
+
+        assertThat(rebuilt.getCount()).isEqualTo(4);
+        assertThat(rebuilt.getDistribution()).containsExactly(
+                entry(1, 0L), entry(2, 1L), entry(3, 1L), entry(4, 1L), entry(5, 1L));
+        assertThat(rebuilt.getAverage()).isEqualTo(3.4);
+        assertThat(rebuilt.getRecentAverage()).isEqualTo(3.9); // 최신 3개 (3, 4, 4.6)
+
+        giveFeedback(1.0);
+
+        FeedbackStatisticsResponse updated = statisticsService.findByBookId(book.getId());
+        assertThat(updated.getCount()).isEqualTo(5);
+        assertThat(updated.getDistribution().get(1)).isEqualTo(1L);
+        assertThat(updated.getRecentAverage()).isEqualTo(2.4);
+    }
+
+    @Test
+    void feedbackOnBookWithoutStatisticsRebuildsFromFeedback() {
+        giveLegacyFeedback(2.0, 3.0, 4.0, 4.6);
+
+        giveFeedback(1.0);
+
+        FeedbackStatisticsResponse response = statisticsService.findByBookId(book.getId());
+        assertThat(response.getCount()).isEqualTo(5);
+        assertThat(response.getDistribution()).containsExactly(
+                entry(1, 1L), entry(2, 1L), entry(3, 1L), entry(4, 1L), entry(5, 1L));
+        assertThat(response.getAverage()).isEqualTo(2.9); // 14.6 / 5
+        assertThat(response.getRecentAverage()).isEqualTo(3.2); // 최신 3개 (4, 4.6, 1)
+    }
+
+    @Test
+    void backfillBuildsMissingStatisticsOnce() {
+        giveLegacyFeedback(3.0);
+
+        assertThat(backfillJob.backfill()).isEqualTo(1);
+        assertThat(backfillJob.backfill()).isZero();
+        assertThat(statisticsRepository.findById(book.getId()))
+                .hasValueSatisfying(statistics -> assertThat(statistics.getThreeStars()).isEqualTo(1));
+    }
+
+    @Test
+    void unknownBookIsNotFound() {
+        assertThatThrownBy(() -> statisticsService.findByBookId(Integer.MAX_VALUE))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    // 통계 도입 이전처럼 통계를 갱신하지 않고 피드백만 저장
+    private void giveLegacyFeedback(double... notes) {
+        for (double note : notes) {
+            as(reader, () -> feedBackRepository.save(Feedback.builder().note(note).comment("c").book(book).build()));
+        }
+    }
+
+    private void giveFeedback(double note) {
+        as(reader, () -> feedbackService.save(new FeedbackRequest(note, "comment", book.getId()), reader));
+    }
+}
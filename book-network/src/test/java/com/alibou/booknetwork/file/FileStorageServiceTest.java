@@ -0,0 +1,57 @@
+package com.alibou.booknetwork.file;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 확장자만 다른 같은 내용의 업로드가 처음 저장된 위치와 참조 수를 공유하고,
+ * 마지막 참조가 해제되면 파일과 행이 함께 삭제되는지 검증합니다.
+ */
+@SpringBootTest
+class FileStorageServiceTest {
+
+    private static final byte[] CONTENT = {7, 7, 7, 42};
+
+    @Autowired
+    private FileStorageService fileStorageService;
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @AfterEach
+    void tearDown() {
+        storedFileRepository.deleteAll();
+    }
+
+    @Test
+    void sameContentWithDifferentExtensionSharesStoredLocation() {
+        String first = fileStorageService.saveFile(upload("a.png"));
+        String upperCase = fileStorageService.saveFile(upload("a.PNG"));
+        String otherExtension = fileStorageService.saveFile(upload("a.jpeg"));
+
+        assertThat(upperCase).isEqualTo(first);
+        assertThat(otherExtension).isEqualTo(first);
+        StoredFile stored = storedFileRepository.findByLocation(first).orElseThrow();
+        assertThat(stored.getReferenceCount()).isEqualTo(3);
+        assertThat(storedFileRepository.count()).isEqualTo(1);
+
+        fileStorageService.release(first);
+        fileStorageService.release(upperCase);
+        assertThat(Files.exists(Path.of(first))).isTrue();
+
+        fileStorageService.release(otherExtension);
+        assertThat(storedFileRepository.findById(stored.getHash())).isEmpty();
+        assertThat(Files.exists(Path.of(first))).isFalse();
+    }
+
+    private static MockMultipartFile upload(String fileName) {
+        return new MockMultipartFile("file", fileName, "image/png", CONTENT);
+    }
+}
@@ -0,0 +1,146 @@
+package com.alibou.booknetwork.history;
+
+import com.alibou.booknetwork.book.Book;
+import com.alibou.booknetwork.book.BookRepository;
+import com.alibou.booknetwork.book.BookService;
+import com.alibou.booknetwork.book.BorrowedBookResponse;
+import com.alibou.booknetwork.common.Cursor;
+import com.alibou.booknetwork.common.CursorResponse;
+import com.alibou.booknetwork.common.PageResponse;
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.alibou.booknetwork.support.TestUsers.as;
+import static com.alibou.booknetwork.support.TestUsers.authenticate;
+import static com.alibou.booknetwork.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 반납 승인된 대여 내역이 보관 테이블로 옮겨지고, 대여/반납 처리와 목록 조회가 보관 이후에도 동작하는지 검증합니다.
+ * (테스트 설정의 loan-archive.batch-size: 2)
+ */
+@SpringBootTest
+class LoanHistoryArchiveJobTest {
+
+    @Autowired
+    private LoanHistoryArchiveJob loanHistoryArchiveJob;
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookTransactionHistoryRepository transactionHistoryRepository;
+    @Autowired
+    private BookTransactionHistoryArchiveRepository archiveRepository;
+    @Autowired
+    private ActiveLoanRepository activeLoanRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Authentication owner;
+    private Authentication borrower;
+    private final List<Integer> bookIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = authenticate(userRepository.save(user("lender")));
+        borrower = authenticate(userRepository.save(user("borrower")));
+        as(owner, () -> {
+            for (int i = 0; i < 3; i++) {
+                bookIds.add(bookRepository.save(Book.builder()
+                        .title("Book " + i)
+                        .shareable(true)
+                        .owner((User) owner.getPrincipal())
+                        .build()).getId());
+            }
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        activeLoanRepository.deleteAll();
+        archiveRepository.deleteAll();
+        transactionHistoryRepository.deleteAll();
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void completedLoansMoveToArchiveAndStayListed() {
+        Integer first = bookIds.get(0);
+        Integer second = bookIds.get(1);
+        Integer third = bookIds.get(2);
+        completeLoan(first);
+        completeLoan(first);
+        as(borrower, () -> bookService.borrowBook(second, borrower));
+        as(borrower, () -> bookService.borrowBook(third, borrower));
+        as(borrower, () -> bookService.returnBorrowedBook(third, borrower));
+
+        assertThat(loanHistoryArchiveJob.archiveCompletedLoans()).isEqualTo(2);
+
+        // 진행 중인 테이블에는 반납 승인 전인 대여만 남음
+        assertThat(transactionHistoryRepository.findAll())
+                .extracting(history -> history.getBook().getId())
+                .containsExactlyInAnyOrder(second, third);
+        assertThat(archiveRepository.findAll())
+                .allSatisfy(archived -> assertThat(archived.isReturnApproved()).isTrue())
+                .hasSize(2);
+        assertThat(loanHistoryArchiveJob.archiveCompletedLoans()).isZero();
+
+        // 목록 조회는 두 테이블을 최신순으로 함께 반환
+        PageResponse<BorrowedBookResponse> borrowed = bookService.findAllBorrowedBooks(0, 10, borrower);
+        assertThat(borrowed.getTotalElements()).isEqualTo(4);
+        assertThat(borrowed.getContent())
+                .extracting(BorrowedBookResponse::getId, BorrowedBookResponse::isReturned, BorrowedBookResponse::isReturnApproved)
+                .containsExactly(
+                        tuple(third, true, false),
+                        tuple(second, false, false),
+                        tuple(first, true, true),
+                        tuple(first, true, true));
+        assertThat(bookService.findAllReturnedBooks(1, 3, owner).getContent())
+                .extracting(BorrowedBookResponse::getId)
+                .containsExactly(first);
+
+        CursorResponse<BorrowedBookResponse> firstPage = bookService.findAllBorrowedBooks(null, 3, borrower);
+        assertThat(firstPage.getContent()).extracting(BorrowedBookResponse::getId)
+                .containsExactly(third, second, first);
+        CursorResponse<BorrowedBookResponse> lastPage = bookService.findAllBorrowedBooks(
+                Cursor.valueOf(firstPage.getNextCursor()), 3, borrower);
+        assertThat(lastPage.getContent()).extracting(BorrowedBookResponse::getId).containsExactly(first);
+        assertThat(lastPage.isLast()).isTrue();
+        assertThat(bookService.findAllReturnedBooks(null, 10, owner).getContent()).hasSize(4);
+    }
+
+    @Test
+    void borrowAndReturnWorkAfterArchiving() {
+        Integer bookId = bookIds.get(0);
+        completeLoan(bookId);
+        loanHistoryArchiveJob.archiveCompletedLoans();
+
+        completeLoan(bookId);
+
+        assertThat(loanHistoryArchiveJob.archiveCompletedLoans()).isEqualTo(1);
+        assertThat(archiveRepository.count()).isEqualTo(2);
+        assertThat(transactionHistoryRepository.count()).isZero();
+        assertThat(activeLoanRepository.count()).isZero();
+    }
+
+    private void completeLoan(Integer bookId) {
+        as(borrower, () -> bookService.borrowBook(bookId, borrower));
+        as(borrower, () -> bookService.returnBorrowedBook(bookId, borrower));
+        as(owner, () -> bookService.approveReturnBorrowedBook(bookId, owner));
+    }
+}
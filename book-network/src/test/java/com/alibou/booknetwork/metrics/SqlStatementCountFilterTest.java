@@ -0,0 +1,51 @@
+package com.alibou.booknetwork.metrics;
+
+import com.alibou.booknetwork.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청당 SQL 문 수가 응답 헤더와 히스토그램으로, 서비스 메소드 실행 시간이 타이머로 기록되는지 검증합니다.
+ * (테스트 설정의 metrics.sql-count-header: true)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SqlStatementCountFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void recordsStatementCountAndServiceTimerPerRequest() throws Exception {
+        User reader = User.builder().id(4242).email("metrics@mail.com").enabled(true).roles(List.of()).build();
+
+        String header = mockMvc.perform(get("/books/borrowed")
+                        .with(authentication(new UsernamePasswordAuthenticationToken(reader, null, reader.getAuthorities()))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(SqlStatementCountFilter.HEADER);
+
+        // 첫 페이지가 비어 있으므로 전체 개수 조회 없이 목록 조회만 실행
+        assertThat(header).isNotNull();
+        assertThat(Integer.parseInt(header)).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("http.server.requests.sql")
+                .tag("method", "GET").tag("uri", "/books/borrowed")
+                .summary().totalAmount()).isEqualTo(Integer.parseInt(header));
+        assertThat(meterRegistry.get("booknetwork.method")
+                .tag("class", "BookService").tag("method", "findAllBorrowedBooks")
+                .timer().count()).isGreaterThanOrEqualTo(1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.alibou.booknetwork.ratelimit;
+
+import com.alibou.booknetwork.user.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+
+class RateLimitFilterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final RateLimiter authLimiter = limiter("auth", 2, 0.5);
+    private final RateLimiter apiLimiter = limiter("api", 3, 1);
+    private final RateLimitFilter filter = new RateLimitFilter(new ObjectMapper().findAndRegisterModules(), List.of(
+            new RateLimitFilter.EndpointGroup("/auth/", authLimiter),
+            new RateLimitFilter.EndpointGroup("/", apiLimiter)
+    ));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rejectsWithRetryAfterOnceBurstIsSpentAndRefillsOverTime() throws Exception {
+        assertThat(send("/auth/authenticate", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send("/auth/authenticate", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = send("/auth/authenticate", "10.0.0.1");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(RETRY_AFTER)).isEqualTo("2");
+        // 다른 IP와 다른 그룹은 별도 버킷
+        assertThat(send("/auth/authenticate", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(send("/books", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(send("/auth/authenticate", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("http.ratelimit.requests")
+                .tag("group", "auth").tag("outcome", "rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void authenticatedRequestsShareOneBucketAcrossAddresses() throws Exception {
+        User user = User.builder().id(7).email("reader@mail.com").enabled(true).roles(List.of()).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        assertThat(send("/books", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send("/books", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(send("/books", "10.0.0.3").getStatus()).isEqualTo(200);
+        assertThat(send("/books", "10.0.0.4").getStatus()).isEqualTo(429);
+    }
+
+    private MockHttpServletResponse send(String path, String remoteAddress) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1" + path);
+        request.setContextPath("/api/v1");
+        request.setRemoteAddr(remoteAddress);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private RateLimiter limiter(String group, int capacity, double refillPerSecond) {
+        return new RateLimiter(group, capacity, refillPerSecond, Duration.ofMinutes(10), 1_000, meterRegistry, nanos::get);
+    }
+}
@@ -0,0 +1,152 @@
+package com.alibou.booknetwork.recommendation;
+
+import com.alibou.booknetwork.book.Book;
+import com.alibou.booknetwork.book.BookRepository;
+import com.alibou.booknetwork.book.BookService;
+import com.alibou.booknetwork.history.ActiveLoanRepository;
+import com.alibou.booknetwork.history.BookTransactionHistoryArchiveRepository;
+import com.alibou.booknetwork.history.BookTransactionHistoryRepository;
+import com.alibou.booknetwork.history.LoanHistoryArchiveJob;
+import com.alibou.booknetwork.user.User;
+import com.alibou.booknetwork.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.alibou.booknetwork.support.TestUsers.as;
+import static com.alibou.booknetwork.support.TestUsers.authenticate;
+import static com.alibou.booknetwork.support.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 진행 중/보관된 대여 내역이 동시 대여 인덱스에 한 번씩만 반영되고, 스냅샷에서 복원한 뒤 이어서 갱신되는지 검증합니다.
+ * (테스트 설정의 recommendation.batch-size: 2, top-k: 2)
+ */
+@SpringBootTest
+class CoBorrowIndexJobTest {
+    private static final Path SNAPSHOT = Path.of("./target/test-recommendations/co-borrow-job-test.snapshot");
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private LoanHistoryArchiveJob loanHistoryArchiveJob;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookTransactionHistoryRepository transactionHistoryRepository;
+    @Autowired
+    private BookTransactionHistoryArchiveRepository archiveRepository;
+    @Autowired
+    private ActiveLoanRepository activeLoanRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Authentication owner;
+    private final List<Authentication> readers = new ArrayList<>();
+    private final List<Integer> bookIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.deleteIfExists(SNAPSHOT);
+        owner = authenticate(userRepository.save(user("lender")));
+        for (int i = 0; i < 3; i++) {
+            readers.add(authenticate(userRepository.save(user("reader" + i))));
+        }
+        as(owner, () -> {
+            for (int i = 0; i < 4; i++) {
+                bookIds.add(bookRepository.save(Book.builder()
+                        .title("Book " + i)
+                        .shareable(true)
+                        .owner((User) owner.getPrincipal())
+                        .build()).getId());
+            }
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        SecurityContextHolder.clearContext();
+        activeLoanRepository.deleteAll();
+        archiveRepository.deleteAll();
+        transactionHistoryRepository.deleteAll();
+        bookRepository.deleteAll();
+        userRepository.deleteAll();
+        Files.deleteIfExists(SNAPSHOT);
+    }
+
+    @Test
+    void similarBooksAreRankedByDistinctCoBorrowers() {
+        Integer a = bookIds.get(0);
+        Integer b = bookIds.get(1);
+        Integer c = bookIds.get(2);
+        Integer d = bookIds.get(3);
+        completeLoan(0, a);
+        completeLoan(0, b);
+        completeLoan(0, c);
+        completeLoan(1, a);
+        completeLoan(1, b);
+        completeLoan(2, a);
+        completeLoan(0, a); // 같은 사용자의 재대여는 한 번만 셈
+        loanHistoryArchiveJob.archiveCompletedLoans();
+        borrow(2, d); // 진행 중인 대여
+
+        CoBorrowIndex index = new CoBorrowIndex(2, 1000);
+        CoBorrowIndexJob job = job(index);
+
+        assertThat(job.refresh()).isEqualTo(8);
+        assertThat(job.refresh()).isZero();
+        assertThat(index.findSimilar(a, 10))
+                .extracting(SimilarBookResponse::getBookId, SimilarBookResponse::getCoBorrowers)
+                .containsExactly(tuple(b, 2), tuple(c, 1));
+        assertThat(index.findSimilar(d, 10))
+                .extracting(SimilarBookResponse::getBookId, SimilarBookResponse::getCoBorrowers)
+                .containsExactly(tuple(a, 1));
+        assertThat(index.findSimilar(a, 1)).hasSize(1);
+        assertThat(index.findSimilar(Integer.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    void restartRestoresSnapshotAndContinuesFromLastLoan() {
+        Integer a = bookIds.get(0);
+        Integer b = bookIds.get(1);
+        Integer c = bookIds.get(2);
+        completeLoan(0, a);
+        completeLoan(0, b);
+        assertThat(job(new CoBorrowIndex(2, 1000)).refresh()).isEqualTo(2);
+        assertThat(SNAPSHOT).exists();
+
+        completeLoan(0, c);
+
+        CoBorrowIndex restarted = new CoBorrowIndex(2, 1000);
+        assertThat(job(restarted).refresh()).isEqualTo(1); // 스냅샷 이후 내역만 읽음
+        assertThat(restarted.findSimilar(c, 10))
+                .extracting(SimilarBookResponse::getBookId, SimilarBookResponse::getCoBorrowers)
+                .containsExactly(tuple(a, 1), tuple(b, 1));
+    }
+
+    private CoBorrowIndexJob job(CoBorrowIndex index) {
+        return new CoBorrowIndexJob(transactionHistoryRepository, index, SNAPSHOT.toString(), 2, 0);
+    }
+
+    private void borrow(int reader, Integer bookId) {
+        as(readers.get(reader), () -> bookService.borrowBook(bookId, readers.get(reader)));
+    }
+
+    private void completeLoan(int reader, Integer bookId) {
+        borrow(reader, bookId);
+        as(readers.get(reader), () -> bookService.returnBorrowedBook(bookId, readers.get(reader)));
+        as(owner, () -> bookService.approveReturnBorrowedBook(bookId, owner));
+    }
+}
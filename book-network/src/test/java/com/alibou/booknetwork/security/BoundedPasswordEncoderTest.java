@@ -0,0 +1,77 @@
+package com.alibou.booknetwork.security;
+
+import com.alibou.booknetwork.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void hashesOnThePoolAndRecordsLatency() {
+        BoundedPasswordEncoder encoder = encoder(5, 1, 1);
+
+        String encoded = encoder.encode("password");
+
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsImmediatelyWhenPoolAndQueueAreFull() throws Exception {
+        BoundedPasswordEncoder encoder = encoder(4, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release)); // 유일한 워커 점유
+        executor.execute(() -> await(release)); // 대기열 한 칸 점유
+        try {
+            assertThatThrownBy(() -> encoder.encode("password"))
+                    .isInstanceOf(PasswordHashingBusyException.class);
+            assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void upgradesHashesBelowConfiguredCost() {
+        String legacy = new BCryptPasswordEncoder(4).encode("password");
+        BoundedPasswordEncoder encoder = encoder(5, 1, 1);
+
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("password"))).isFalse();
+    }
+
+    private BoundedPasswordEncoder encoder(int cost, int poolSize, int queueCapacity) {
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(cost), executor, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.alibou.booknetwork.security;
+
+import com.alibou.booknetwork.role.Role;
+import com.alibou.booknetwork.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+class JwtFilterClaimsOnlyTest {
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final JwtService jwtService = new JwtService(60_000L, SECRET, 100, 60);
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final JwtFilter filter = new JwtFilter(jwtService, userDetailsService);
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(7)
+                .email("reader@mail.com")
+                .firstname("Reader")
+                .lastname("Tester")
+                .enabled(true)
+                .roles(List.of(Role.builder().name("USER").build()))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void claimsOnlyModeAuthenticatesWithoutLoadingUser() throws Exception {
+        ReflectionTestUtils.setField(filter, "claimsOnlyPrincipal", true);
+        String token = jwtService.generateToken(
+                Map.of(JwtService.USER_ID_CLAIM, user.getId(), JwtService.FULL_NAME_CLAIM, user.fullName()), user);
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isEqualTo(new ClaimsPrincipal(7, "reader@mail.com", "Reader Tester"));
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("USER");
+        assertThat(CurrentUser.id(authentication)).isEqualTo(7);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void tokenWithoutUserIdFallsBackToUserLookup() throws Exception {
+        ReflectionTestUtils.setField(filter, "claimsOnlyPrincipal", true);
+        when(userDetailsService.loadUserByUsername(user.getEmail())).thenReturn(user);
+        String token = jwtService.generateToken(user);
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(user);
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/books");
+        request.setServletPath("/books");
+        request.addHeader(AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+}
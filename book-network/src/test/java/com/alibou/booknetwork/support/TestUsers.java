@@ -0,0 +1,48 @@
+package com.alibou.booknetwork.support;
+
+import com.alibou.booknetwork.user.User;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 통합 테스트에서 함께 쓰는 사용자/인증 헬퍼입니다.
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    /**
+     * 역할 없이 활성화된 사용자를 만듭니다. 저장은 호출하는 쪽에서 UserRepository로 합니다.
+     */
+    public static User user(String name) {
+        return User.builder()
+                .firstname(name)
+                .lastname("Tester")
+                .email(name + "@mail.com")
+                .password("password")
+                .enabled(true)
+                .roles(List.of())
+                .build();
+    }
+
+    public static Authentication authenticate(User user) {
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    /**
+     * 보안 컨텍스트에 인증 정보를 넣고 action을 실행합니다. 감사 필드(createdBy/lastModifiedBy)가 이 사용자로 채워집니다.
+     */
+    public static <T> T as(Authentication authentication, Supplier<T> action) {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        try {
+            return action.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.alibou.booknetwork.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 활성화 토큰이 해시로만 저장되고, 사용자별 개수 제한과 정리 작업이 동작하는지 검증합니다.
+ * (테스트 설정의 max-outstanding-per-user: 2)
+ */
+@SpringBootTest
+class ActivationTokenStoreTest {
+
+    @Autowired
+    private ActivationTokenStore activationTokenStore;
+    @Autowired
+    private TokenRepository tokenRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .firstname("token")
+                .lastname("Tester")
+                .email("token@mail.com")
+                .password("password")
+                .enabled(false)
+                .roles(List.of())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void tokenIsStoredAsHashAndFoundByCode() {
+        String code = activationTokenStore.issue(user);
+
+        Token stored = activationTokenStore.find(code).orElseThrow();
+        assertThat(stored.getUser().getId()).isEqualTo(user.getId());
+        assertThat(stored.getTokenHash()).hasSize(64).doesNotContain(code);
+        assertThat(activationTokenStore.find("not-a-token")).isEmpty();
+    }
+
+    @Test
+    void outstandingTokensPerUserAreCapped() {
+        String oldest = activationTokenStore.issue(user);
+        activationTokenStore.issue(user);
+        String newest = activationTokenStore.issue(user);
+
+        assertThat(tokenRepository.count()).isEqualTo(2);
+        assertThat(activationTokenStore.find(oldest)).isEmpty();
+        assertThat(activationTokenStore.find(newest)).isPresent();
+    }
+
+    @Test
+    void sweepDeletesValidatedAndLongExpiredTokensInBatches() {
+        activationTokenStore.markValidated(activationTokenStore.find(activationTokenStore.issue(user)).orElseThrow());
+        String fresh = activationTokenStore.issue(user);
+        // 보존 기간(24시간)이 지난 만료 토큰과 막 만료된 토큰
+        for (int hoursAgo : new int[]{48, 30, 25}) {
+            tokenRepository.save(Token.builder()
+                    .tokenHash("expired-" + hoursAgo)
+                    .createdAt(LocalDateTime.now().minusHours(hoursAgo))
+                    .expiresAt(LocalDateTime.now().minusHours(hoursAgo))
+                    .user(user)
+                    .build());
+        }
+        Token recentlyExpired = tokenRepository.save(Token.builder()
+                .tokenHash("recently-expired")
+                .createdAt(LocalDateTime.now().minusHours(1))
+                .expiresAt(LocalDateTime.now().minusMinutes(30))
+                .user(user)
+                .build());
+
+        assertThat(activationTokenStore.sweep(2)).isEqualTo(4);
+
+        assertThat(tokenRepository.findAll()).extracting(Token::getId)
+                .containsExactlyInAnyOrder(activationTokenStore.find(fresh).orElseThrow().getId(), recentlyExpired.getId());
+    }
+}
@@ -0,0 +1,6 @@
+package com.biglol.getinline.constant;
+
+public enum ReservationStatus {
+    RESERVED,
+    CANCELLED
+}
@@ -0,0 +1,60 @@
+package com.biglol.getinline.controller.api;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import com.biglol.getinline.dto.ApiDataResponse;
+import com.biglol.getinline.dto.EventReservationRequest;
+import com.biglol.getinline.dto.EventReservationResponse;
+import com.biglol.getinline.service.EventReservationService;
+
+import lombok.RequiredArgsConstructor;
+
+// 이벤트 자리 예약 API. /api/events 자체는 Spring Data REST가 만들고, 예약은 인원 검사가 필요해서 직접 만듦
+// 클라이언트는 예약마다 Idempotency-Key 헤더로 고유한 키를 보내고, 응답을 못 받았으면 같은 키로 다시 보내면 됨
+@Validated
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@RestController
+public class ApiEventReservationController {
+    private final EventReservationService eventReservationService;
+
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping("/events/{eventId}/reservations")
+    public ApiDataResponse<EventReservationResponse> reserve(
+            @Positive @PathVariable Long eventId,
+            @NotBlank @Size(max = 64) @RequestHeader("Idempotency-Key") String reservationKey,
+            @Valid @RequestBody EventReservationRequest eventReservationRequest) {
+        return ApiDataResponse.of(
+                EventReservationResponse.from(
+                        eventReservationService.reserve(
+                                eventId,
+                                reservationKey,
+                                eventReservationRequest.numberOfPeople())));
+    }
+
+    @DeleteMapping("/events/{eventId}/reservations/{reservationKey}")
+    public ApiDataResponse<EventReservationResponse> cancel(
+            @Positive @PathVariable Long eventId, @PathVariable String reservationKey) {
+        return ApiDataResponse.of(
+                EventReservationResponse.from(
+                        eventReservationService.cancel(eventId, reservationKey)));
+    }
+
+    @GetMapping("/events/{eventId}/reservations")
+    public ApiDataResponse<Page<EventReservationResponse>> getReservations(
+            @Positive @PathVariable Long eventId, Pageable pageable) {
+        return ApiDataResponse.of(
+                eventReservationService
+                        .getReservations(eventId, pageable)
+                        .map(EventReservationResponse::from));
+    }
+}
@@ -0,0 +1,94 @@
+package com.biglol.getinline.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import javax.persistence.*;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.biglol.getinline.constant.ReservationStatus;
+
+import lombok.Getter;
+import lombok.ToString;
+
+// 이벤트별 예약 장부. 예약 한 건 = 한 행이고, 취소해도 행은 지우지 않고 상태만 바꿈
+// (eventId, reservationKey)가 unique라서 같은 멱등키로 동시에 들어온 요청은 하나만 저장됨
+@Getter
+@ToString
+@Table(
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"event_id", "reservationKey"})},
+        indexes = {@Index(columnList = "createdAt"), @Index(columnList = "modifiedAt")})
+@EntityListeners(AuditingEntityListener.class)
+@Entity
+public class EventReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ToString.Exclude // 장부를 찍을 때마다 event, place까지 읽지 않도록
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    private Event event;
+
+    @Column(nullable = false, length = 64)
+    private String reservationKey; // 클라이언트가 보내는 멱등키 (Idempotency-Key 헤더)
+
+    @Column(nullable = false)
+    private Integer numberOfPeople;
+
+    @Column(nullable = false, columnDefinition = "varchar(20) default 'RESERVED'")
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus reservationStatus;
+
+    @Column(
+            nullable = false,
+            insertable = false,
+            updatable = false,
+            columnDefinition = "datetime default CURRENT_TIMESTAMP")
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @Column(
+            nullable = false,
+            insertable = false,
+            updatable = false,
+            columnDefinition = "datetime default CURRENT_TIMESTAMP on update CURRENT_TIMESTAMP")
+    @LastModifiedDate
+    private LocalDateTime modifiedAt;
+
+    protected EventReservation() {}
+
+    protected EventReservation(
+            Event event,
+            String reservationKey,
+            Integer numberOfPeople,
+            ReservationStatus reservationStatus) {
+        this.event = event;
+        this.reservationKey = reservationKey;
+        this.numberOfPeople = numberOfPeople;
+        this.reservationStatus = reservationStatus;
+    }
+
+    public static EventReservation of(
+            Event event,
+            String reservationKey,
+            Integer numberOfPeople,
+            ReservationStatus reservationStatus) {
+        return new EventReservation(event, reservationKey, numberOfPeople, reservationStatus);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        return id != null && id.equals(((EventReservation) obj).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reservationKey, numberOfPeople, createdAt);
+    }
+}
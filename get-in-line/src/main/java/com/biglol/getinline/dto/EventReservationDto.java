@@ -0,0 +1,45 @@
+package com.biglol.getinline.dto;
+
+import java.time.LocalDateTime;
+
+import com.biglol.getinline.constant.ReservationStatus;
+import com.biglol.getinline.domain.EventReservation;
+
+public record EventReservationDto(
+        Long id,
+        Long eventId,
+        String reservationKey,
+        Integer numberOfPeople,
+        ReservationStatus reservationStatus,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt) {
+
+    public static EventReservationDto of(
+            Long id,
+            Long eventId,
+            String reservationKey,
+            Integer numberOfPeople,
+            ReservationStatus reservationStatus,
+            LocalDateTime createdAt,
+            LocalDateTime modifiedAt) {
+        return new EventReservationDto(
+                id,
+                eventId,
+                reservationKey,
+                numberOfPeople,
+                reservationStatus,
+                createdAt,
+                modifiedAt);
+    }
+
+    public static EventReservationDto of(EventReservation eventReservation) {
+        return new EventReservationDto(
+                eventReservation.getId(),
+                eventReservation.getEvent().getId(), // 프록시의 id는 select 없이 읽힘
+                eventReservation.getReservationKey(),
+                eventReservation.getNumberOfPeople(),
+                eventReservation.getReservationStatus(),
+                eventReservation.getCreatedAt(),
+                eventReservation.getModifiedAt());
+    }
+}
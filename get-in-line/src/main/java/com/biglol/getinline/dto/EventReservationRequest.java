@@ -0,0 +1,11 @@
+package com.biglol.getinline.dto;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+public record EventReservationRequest(@NotNull @Positive Integer numberOfPeople) {
+
+    public static EventReservationRequest of(Integer numberOfPeople) {
+        return new EventReservationRequest(numberOfPeople);
+    }
+}
@@ -0,0 +1,38 @@
+package com.biglol.getinline.dto;
+
+import java.time.LocalDateTime;
+
+import com.biglol.getinline.constant.ReservationStatus;
+
+public record EventReservationResponse(
+        Long id,
+        Long eventId,
+        String reservationKey,
+        Integer numberOfPeople,
+        ReservationStatus reservationStatus,
+        LocalDateTime createdAt) {
+
+    public static EventReservationResponse of(
+            Long id,
+            Long eventId,
+            String reservationKey,
+            Integer numberOfPeople,
+            ReservationStatus reservationStatus,
+            LocalDateTime createdAt) {
+        return new EventReservationResponse(
+                id, eventId, reservationKey, numberOfPeople, reservationStatus, createdAt);
+    }
+
+    public static EventReservationResponse from(EventReservationDto eventReservationDto) {
+        if (eventReservationDto == null) {
+            return null;
+        }
+        return EventReservationResponse.of(
+                eventReservationDto.id(),
+                eventReservationDto.eventId(),
+                eventReservationDto.reservationKey(),
+                eventReservationDto.numberOfPeople(),
+                eventReservationDto.reservationStatus(),
+                eventReservationDto.createdAt());
+    }
+}
@@ -7,9 +7,13 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RestResource;
 
 import com.biglol.getinline.constant.EventStatus;
 import com.biglol.getinline.domain.Event;
@@ -58,6 +62,29 @@ public interface EventRepository
     }
 
     Page<Event> findByPlace(Place place, Pageable pageable);
+
+    // 예약 인원 증가. 정원 검사를 UPDATE 문 안에서 하므로 동시에 신청해도 정원을 넘지 않음 (읽고 고쳐서 저장하면 덮어쓰기가 생김)
+    // 0이 리턴되면 이벤트가 없거나, 해당 상태가 아니거나, 자리가 부족한 것
+    // 아래 메소드들은 /api/events/search로 노출되면 안 되기에 exported = false
+    @RestResource(exported = false)
+    @Modifying
+    @Query(
+            "update Event e set e.currentNumberOfPeople = e.currentNumberOfPeople + :numberOfPeople"
+                    + " where e.id = :eventId and e.eventStatus = :eventStatus"
+                    + " and e.currentNumberOfPeople + :numberOfPeople <= e.capacity")
+    int increaseCurrentNumberOfPeople(
+            @Param("eventId") Long eventId,
+            @Param("eventStatus") EventStatus eventStatus,
+            @Param("numberOfPeople") int numberOfPeople);
+
+    // 예약 취소 시 인원 감소. 0 아래로는 내려가지 않음
+    @RestResource(exported = false)
+    @Modifying
+    @Query(
+            "update Event e set e.currentNumberOfPeople = e.currentNumberOfPeople - :numberOfPeople"
+                    + " where e.id = :eventId and e.currentNumberOfPeople >= :numberOfPeople")
+    int decreaseCurrentNumberOfPeople(
+            @Param("eventId") Long eventId, @Param("numberOfPeople") int numberOfPeople);
 }
 
 //// TODO: 인스턴스 설정 관리를 위해 임시로 default 사용. repository layer 구현이 완성되면 삭제
@@ -0,0 +1,33 @@
+package com.biglol.getinline.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+import com.biglol.getinline.constant.ReservationStatus;
+import com.biglol.getinline.domain.EventReservation;
+
+// Spring Data REST로 노출하면 이벤트 인원을 거치지 않고 장부를 바로 쓸 수 있으니 노출하지 않음 (ApiEventReservationController 사용)
+@RepositoryRestResource(exported = false)
+public interface EventReservationRepository extends JpaRepository<EventReservation, Long> {
+
+    Optional<EventReservation> findByEventIdAndReservationKey(Long eventId, String reservationKey);
+
+    Page<EventReservation> findByEventId(Long eventId, Pageable pageable);
+
+    // 현재 상태가 from일 때만 바꿈. 같은 예약을 동시에 취소해도 1을 받는 요청은 하나뿐이라 인원이 두 번 빠지지 않음
+    @Modifying(clearAutomatically = true)
+    @Query(
+            "update EventReservation r set r.reservationStatus = :to"
+                    + " where r.id = :id and r.reservationStatus = :from")
+    int updateReservationStatus(
+            @Param("id") Long id,
+            @Param("from") ReservationStatus from,
+            @Param("to") ReservationStatus to);
+}
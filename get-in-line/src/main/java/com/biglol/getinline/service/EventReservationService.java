@@ -0,0 +1,153 @@
+package com.biglol.getinline.service;
+
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.biglol.getinline.constant.ErrorCode;
+import com.biglol.getinline.constant.EventStatus;
+import com.biglol.getinline.constant.ReservationStatus;
+import com.biglol.getinline.domain.EventReservation;
+import com.biglol.getinline.dto.EventReservationDto;
+import com.biglol.getinline.exception.GeneralException;
+import com.biglol.getinline.repository.EventRepository;
+import com.biglol.getinline.repository.EventReservationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// 이벤트 자리 예약/취소
+// 인원은 Event를 읽어서 고친 뒤 저장하지 않고 조건부 UPDATE 한 번으로 늘리고 줄임 (EventRepository.increaseCurrentNumberOfPeople)
+// 그래서 여러 요청, 여러 서버가 동시에 신청해도 정원을 넘거나 다른 요청의 증가분을 덮어쓰지 않음
+// 예약마다 장부(EventReservation)에 한 행을 남기고, 같은 멱등키로 다시 온 요청에는 처음 결과를 그대로 돌려줌 (재시도해도 인원이 또 늘지 않음)
+// 자리가 없어 실패한 요청은 장부에 남지 않으므로 같은 키로 나중에 다시 시도할 수 있음
+@RequiredArgsConstructor
+@Service
+public class EventReservationService {
+
+    private final EventRepository eventRepository;
+    private final EventReservationRepository eventReservationRepository;
+    // 멱등키 중복으로 롤백된 뒤에 기존 예약을 다시 읽어야 해서 @Transactional 대신 직접 트랜잭션 범위를 잡음
+    private final TransactionTemplate transactionTemplate;
+
+    public EventReservationDto reserve(Long eventId, String reservationKey, int numberOfPeople) {
+        if (eventId == null || reservationKey == null || reservationKey.isBlank()) {
+            throw new GeneralException(
+                    ErrorCode.BAD_REQUEST, "Event id and reservation key are required.");
+        }
+        if (numberOfPeople <= 0) {
+            throw new GeneralException(
+                    ErrorCode.BAD_REQUEST, "Number of people must be positive.");
+        }
+
+        try {
+            // 재시도 요청은 이벤트 행 잠금을 기다리지 않고 바로 처리
+            Optional<EventReservation> existing =
+                    eventReservationRepository.findByEventIdAndReservationKey(
+                            eventId, reservationKey);
+            if (existing.isPresent()) {
+                return replay(existing.get(), numberOfPeople);
+            }
+
+            try {
+                return transactionTemplate.execute(
+                        status -> {
+                            // 인원을 먼저 늘려서 실패하면 장부에 아무것도 남지 않게 함
+                            if (eventRepository.increaseCurrentNumberOfPeople(
+                                            eventId, EventStatus.OPENED, numberOfPeople)
+                                    == 0) {
+                                throw notReservable(eventId);
+                            }
+                            EventReservation reservation =
+                                    eventReservationRepository.saveAndFlush(
+                                            EventReservation.of(
+                                                    eventRepository.getById(eventId),
+                                                    reservationKey,
+                                                    numberOfPeople,
+                                                    ReservationStatus.RESERVED));
+                            return EventReservationDto.of(reservation);
+                        });
+            } catch (DataIntegrityViolationException | GeneralException e) {
+                // 같은 키로 동시에 들어온 다른 요청이 먼저 커밋했으면 키 중복, 또는 그 요청이 마지막 자리를 가져가서 정원 초과가 남
+                // 이 트랜잭션은 롤백됐으니 먼저 저장된 예약을 돌려줌 (없으면 원래 에러)
+                Optional<EventReservation> committed =
+                        eventReservationRepository.findByEventIdAndReservationKey(
+                                eventId, reservationKey);
+                if (committed.isEmpty()) {
+                    throw e;
+                }
+                return replay(committed.get(), numberOfPeople);
+            }
+        } catch (GeneralException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    // 취소한 예약을 다시 취소해도 인원은 한 번만 줄어듦
+    public EventReservationDto cancel(Long eventId, String reservationKey) {
+        try {
+            return transactionTemplate.execute(
+                    status -> {
+                        EventReservation reservation =
+                                eventReservationRepository
+                                        .findByEventIdAndReservationKey(eventId, reservationKey)
+                                        .orElseThrow(
+                                                () ->
+                                                        new GeneralException(
+                                                                ErrorCode.NOT_FOUND,
+                                                                "Reservation is not found."));
+                        if (eventReservationRepository.updateReservationStatus(
+                                        reservation.getId(),
+                                        ReservationStatus.RESERVED,
+                                        ReservationStatus.CANCELLED)
+                                == 1) {
+                            eventRepository.decreaseCurrentNumberOfPeople(
+                                    eventId, reservation.getNumberOfPeople());
+                        }
+                        // updateReservationStatus가 영속성 컨텍스트를 비웠으므로 바뀐 상태로 다시 읽음
+                        return eventReservationRepository
+                                .findById(reservation.getId())
+                                .map(EventReservationDto::of)
+                                .orElseThrow();
+                    });
+        } catch (GeneralException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Page<EventReservationDto> getReservations(Long eventId, Pageable pageable) {
+        try {
+            return eventReservationRepository
+                    .findByEventId(eventId, pageable)
+                    .map(EventReservationDto::of);
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    // 같은 키를 다른 인원으로 쓰면 클라이언트 버그이므로 처음 결과를 돌려주지 않고 거절
+    private EventReservationDto replay(EventReservation reservation, int numberOfPeople) {
+        if (reservation.getNumberOfPeople() != numberOfPeople) {
+            throw new GeneralException(
+                    ErrorCode.CONFLICT,
+                    "Reservation key is already used with a different number of people.");
+        }
+        return EventReservationDto.of(reservation);
+    }
+
+    private GeneralException notReservable(Long eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            return new GeneralException(ErrorCode.NOT_FOUND, "Event is not found.");
+        }
+        return new GeneralException(ErrorCode.CONFLICT, "Event is not open or is fully booked.");
+    }
+}
@@ -0,0 +1,268 @@
+package com.biglol.getinline.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+
+import com.biglol.getinline.constant.ErrorCode;
+import com.biglol.getinline.constant.EventStatus;
+import com.biglol.getinline.constant.ReservationStatus;
+import com.biglol.getinline.domain.Event;
+import com.biglol.getinline.domain.EventReservation;
+import com.biglol.getinline.dto.EventReservationDto;
+import com.biglol.getinline.exception.GeneralException;
+import com.biglol.getinline.repository.EventRepository;
+import com.biglol.getinline.repository.EventReservationRepository;
+import com.biglol.getinline.repository.PlaceRepository;
+import com.biglol.getinline.service.EventReservationService;
+
+// 실제 DB에 여러 스레드로 동시에 예약을 넣어서 정원을 넘지 않는지 확인하는 부하 테스트
+// MySQL 대신 인메모리 H2(MySQL 모드)를 쓰고, 행 잠금 대기가 길어질 수 있어 LOCK_TIMEOUT을 늘림
+@DisplayName("통합 - 이벤트 예약 동시성")
+@SpringBootTest(
+        properties = {
+            "spring.datasource.url=jdbc:h2:mem:reservation;MODE=MySQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+            "spring.datasource.driver-class-name=org.h2.Driver",
+            "spring.datasource.username=sa",
+            "spring.datasource.password=",
+            "spring.datasource.hikari.maximum-pool-size=32",
+            "spring.jpa.show-sql=false"
+        })
+class EventReservationConcurrencyTest {
+    private static final Logger log =
+            LoggerFactory.getLogger(EventReservationConcurrencyTest.class);
+    private static final int THREADS = 64;
+
+    private final EventReservationService sut;
+    private final EventRepository eventRepository;
+    private final EventReservationRepository eventReservationRepository;
+    private final PlaceRepository placeRepository;
+
+    private final List<Long> eventIds = new ArrayList<>();
+
+    public EventReservationConcurrencyTest(
+            @Autowired EventReservationService sut,
+            @Autowired EventRepository eventRepository,
+            @Autowired EventReservationRepository eventReservationRepository,
+            @Autowired PlaceRepository placeRepository) {
+        this.sut = sut;
+        this.eventRepository = eventRepository;
+        this.eventReservationRepository = eventReservationRepository;
+        this.placeRepository = placeRepository;
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventReservationRepository.deleteAll();
+        eventRepository.deleteAllById(eventIds);
+    }
+
+    @DisplayName("정원보다 훨씬 많은 예약 요청(재시도 포함)이 동시에 들어오면, 정원까지만 예약되고 장부와 인원이 일치한다.")
+    @Test
+    void givenRushOfReservations_whenReservingConcurrently_thenNeverOverbooks() throws Exception {
+        // Given
+        int capacity = 100;
+        int requests = 5_000;
+        int keys = 2_500; // 키마다 두 번씩 요청 (응답을 못 받은 클라이언트의 재시도)
+        Long eventId = createEvent(capacity, EventStatus.OPENED);
+        Map<String, Long> reservationIdByKey = new ConcurrentHashMap<>();
+        Set<Long> conflictingReplays = ConcurrentHashMap.newKeySet();
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // When
+        long startedAt = System.nanoTime();
+        List<Throwable> errors =
+                runConcurrently(
+                        requests,
+                        i -> {
+                            String key = "user-" + (i % keys);
+                            int numberOfPeople = 1 + (i % keys) % 2;
+                            try {
+                                EventReservationDto reservation =
+                                        sut.reserve(eventId, key, numberOfPeople);
+                                succeeded.incrementAndGet();
+                                Long previous =
+                                        reservationIdByKey.putIfAbsent(key, reservation.id());
+                                if (previous != null && !previous.equals(reservation.id())) {
+                                    conflictingReplays.add(reservation.id());
+                                }
+                            } catch (GeneralException e) {
+                                if (e.getErrorCode() != ErrorCode.CONFLICT) {
+                                    throw e; // 정원 초과 외의 에러는 실패로 집계
+                                }
+                            }
+                        });
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info(
+                "{} reservation requests with {} threads in {} ms ({} requests/s)",
+                requests,
+                THREADS,
+                elapsedMillis,
+                requests * 1000L / Math.max(elapsedMillis, 1));
+
+        // Then
+        List<EventReservation> ledger = eventReservationRepository.findAll();
+        int reservedPeople = ledger.stream().mapToInt(EventReservation::getNumberOfPeople).sum();
+        assertThat(errors).isEmpty();
+        assertThat(conflictingReplays).isEmpty();
+        assertThat(currentNumberOfPeople(eventId))
+                .isEqualTo(reservedPeople)
+                .isLessThanOrEqualTo(capacity)
+                .isGreaterThanOrEqualTo(capacity - 1); // 마지막 한 자리에 2명 요청만 남은 경우
+        assertThat(ledger)
+                .extracting(EventReservation::getReservationKey)
+                .doesNotHaveDuplicates()
+                .hasSameSizeAs(reservationIdByKey.keySet());
+        assertThat(succeeded.get())
+                .isEqualTo(reservationIdByKey.size() * 2); // 예약된 키는 재시도도 같은 예약을 받음
+    }
+
+    @DisplayName("같은 멱등키로 동시에 예약하면, 한 번만 예약되고 모두 같은 예약을 받는다.")
+    @Test
+    void givenSameReservationKey_whenReservingConcurrently_thenReservesOnce() throws Exception {
+        // Given
+        Long eventId = createEvent(10, EventStatus.OPENED);
+        Set<Long> reservationIds = ConcurrentHashMap.newKeySet();
+
+        // When
+        List<Throwable> errors =
+                runConcurrently(
+                        THREADS, i -> reservationIds.add(sut.reserve(eventId, "retry", 3).id()));
+
+        // Then
+        assertThat(errors).isEmpty();
+        assertThat(reservationIds).hasSize(1);
+        assertThat(currentNumberOfPeople(eventId)).isEqualTo(3);
+        assertThat(eventReservationRepository.findByEventId(eventId, Pageable.unpaged()))
+                .hasSize(1);
+    }
+
+    @DisplayName("예약을 동시에 여러 번 취소하면, 인원은 한 번만 줄어든다.")
+    @Test
+    void givenReservation_whenCancellingConcurrently_thenReleasesSeatsOnce() throws Exception {
+        // Given
+        Long eventId = createEvent(10, EventStatus.OPENED);
+        sut.reserve(eventId, "keep", 2);
+        sut.reserve(eventId, "cancel", 3);
+
+        // When
+        List<Throwable> errors = runConcurrently(THREADS, i -> sut.cancel(eventId, "cancel"));
+
+        // Then
+        assertThat(errors).isEmpty();
+        assertThat(currentNumberOfPeople(eventId)).isEqualTo(2);
+        assertThat(sut.cancel(eventId, "cancel").reservationStatus())
+                .isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(sut.reserve(eventId, "next", 8).reservationStatus())
+                .isEqualTo(ReservationStatus.RESERVED); // 취소된 자리를 다시 예약 가능
+    }
+
+    @DisplayName("열리지 않은 이벤트나 다른 인원으로 재사용한 키로 예약하면, 충돌 에러를 던지고 인원은 그대로다.")
+    @Test
+    void givenClosedEventOrReusedKey_whenReserving_thenThrowsConflict() {
+        // Given
+        Long closedEventId = createEvent(10, EventStatus.CLOSED);
+        Long openedEventId = createEvent(10, EventStatus.OPENED);
+        sut.reserve(openedEventId, "key", 1);
+
+        // When
+        Throwable closed = catchThrowable(() -> sut.reserve(closedEventId, "key", 1));
+        Throwable reused = catchThrowable(() -> sut.reserve(openedEventId, "key", 2));
+        Throwable missing = catchThrowable(() -> sut.reserve(Long.MAX_VALUE, "key", 1));
+
+        // Then
+        assertThat(closed)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CONFLICT);
+        assertThat(reused)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CONFLICT);
+        assertThat(missing)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND);
+        assertThat(currentNumberOfPeople(closedEventId)).isZero();
+        assertThat(currentNumberOfPeople(openedEventId)).isEqualTo(1);
+    }
+
+    private Long createEvent(int capacity, EventStatus eventStatus) {
+        Event event =
+                eventRepository.save(
+                        Event.of(
+                                placeRepository.getById(1L),
+                                "선착순 이벤트",
+                                eventStatus,
+                                LocalDateTime.now(),
+                                LocalDateTime.now().plusHours(1),
+                                0,
+                                capacity,
+                                null));
+        eventIds.add(event.getId());
+        return event.getId();
+    }
+
+    private int currentNumberOfPeople(Long eventId) {
+        return eventRepository.findById(eventId).orElseThrow().getCurrentNumberOfPeople();
+    }
+
+    // 모든 스레드가 준비된 뒤 한꺼번에 시작시키고, 처리되지 않은 예외를 모아서 리턴
+    private static List<Throwable> runConcurrently(int requests, Request request)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            Callable<Void> task =
+                    () -> {
+                        start.await();
+                        request.run(index);
+                        return null;
+                    };
+            futures.add(executor.submit(task));
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        return futures.stream()
+                .map(
+                        future -> {
+                            try {
+                                future.get();
+                                return null;
+                            } catch (Exception e) {
+                                return e.getCause() != null ? e.getCause() : e;
+                            }
+                        })
+                .filter(throwable -> throwable != null)
+                .collect(Collectors.toList());
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void run(int index);
+    }
+}